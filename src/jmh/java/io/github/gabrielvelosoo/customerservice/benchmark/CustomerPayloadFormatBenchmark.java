@@ -0,0 +1,79 @@
+package io.github.gabrielvelosoo.customerservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerRequestDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerResponseDTO;
+import io.github.gabrielvelosoo.customerservice.domain.entity.ProvisioningStatus;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.model.ErrorResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerPayloadFormatBenchmark {
+
+    @Param({ "json", "cbor", "smile" })
+    private String format;
+
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+    private ObjectWriter errorWriter;
+    private CustomerResponseDTO response;
+    private ErrorResponse error;
+    private byte[] requestPayload;
+
+    @Setup
+    public void setUp() throws Exception {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper objectMapper = switch(format) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            default -> builder.build();
+        };
+        requestReader = objectMapper.readerFor(CustomerRequestDTO.class);
+        ObjectWriter requestWriter = objectMapper.writerFor(CustomerRequestDTO.class);
+        responseWriter = objectMapper.writerFor(CustomerResponseDTO.class);
+        errorWriter = objectMapper.writerFor(ErrorResponse.class);
+
+        LocalDate birthDate = LocalDate.of(1990, 5, 17);
+        CustomerRequestDTO request = new CustomerRequestDTO("Maria", "Silva", "maria.silva@example.com", "s3cret-passw0rd", "52998224725", "01310100", birthDate);
+        response = new CustomerResponseDTO(42L, "Maria", "Silva", "maria.silva@example.com", "52998224725", "01310100", birthDate, ProvisioningStatus.PROVISIONED, "Sao Paulo", "SP");
+        error = new ErrorResponse(409, "Email already registered", LocalDateTime.of(2024, 1, 1, 12, 0));
+        requestPayload = requestWriter.writeValueAsBytes(request);
+
+        System.out.printf("%n[%s] request=%d bytes, response=%d bytes, error=%d bytes%n",
+                format,
+                requestPayload.length,
+                responseWriter.writeValueAsBytes(response).length,
+                errorWriter.writeValueAsBytes(error).length);
+    }
+
+    @Benchmark
+    public CustomerRequestDTO deserializeRequest() throws Exception {
+        return requestReader.readValue(requestPayload);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws Exception {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeError() throws Exception {
+        return errorWriter.writeValueAsBytes(error);
+    }
+}
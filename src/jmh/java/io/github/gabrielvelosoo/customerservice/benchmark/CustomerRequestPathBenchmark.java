@@ -0,0 +1,164 @@
+package io.github.gabrielvelosoo.customerservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerRequestDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerResponseDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerUpdateDTO;
+import io.github.gabrielvelosoo.customerservice.application.mapper.CustomerMapper;
+import io.github.gabrielvelosoo.customerservice.application.mapper.CustomerMapperImpl;
+import io.github.gabrielvelosoo.customerservice.application.validator.group.ValidationOrder;
+import io.github.gabrielvelosoo.customerservice.domain.entity.Customer;
+import io.github.gabrielvelosoo.customerservice.infrastructure.controller.CustomerController;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.DuplicateRecordException;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.handler.GlobalExceptionHandler;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.model.ErrorResponse;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.model.ValidationErrorResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerRequestPathBenchmark {
+
+    private static final byte[] REQUEST_JSON = """
+            {
+              "name": "Maria",
+              "lastName": "Silva",
+              "email": "maria.silva@example.com",
+              "password": "s3cret-passw0rd",
+              "cpf": "52998224725",
+              "cep": "01310100",
+              "birthDate": "1990-05-17"
+            }
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] UPDATE_JSON = """
+            {
+              "name": "Maria",
+              "lastName": "Souza",
+              "cpf": "52998224725",
+              "birthDate": "1990-05-17"
+            }
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+    private CustomerMapper customerMapper;
+    private GlobalExceptionHandler exceptionHandler;
+    private CustomerRequestDTO request;
+    private CustomerRequestDTO invalidRequest;
+    private CustomerUpdateDTO update;
+    private Customer customer;
+    private CustomerResponseDTO response;
+    private DuplicateRecordException duplicateRecordException;
+    private MethodArgumentNotValidException validationException;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        requestReader = objectMapper.readerFor(CustomerRequestDTO.class);
+        responseWriter = objectMapper.writerFor(CustomerResponseDTO.class);
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        customerMapper = new CustomerMapperImpl();
+        exceptionHandler = new GlobalExceptionHandler();
+
+        request = requestReader.readValue(REQUEST_JSON);
+        invalidRequest = new CustomerRequestDTO("M", "Silva", "not-an-email", "pw", "11111111111", "01310100", request.birthDate());
+        update = objectMapper.readerFor(CustomerUpdateDTO.class).readValue(UPDATE_JSON);
+
+        customer = customerMapper.toEntity(request);
+        customer.setId(42L);
+        customer.setKeycloakUserId("0f8fad5b-d9cb-469f-a165-70867728950e");
+        customer.setCreatedAt(LocalDateTime.now());
+        customer.setUpdatedAt(LocalDateTime.now());
+        response = customerMapper.toDTO(customer);
+
+        duplicateRecordException = new DuplicateRecordException("Email already registered");
+        MethodParameter parameter = new MethodParameter(CustomerController.class.getMethod("create", CustomerRequestDTO.class, String.class), 0);
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(invalidRequest, "customerRequestDTO");
+        for(ConstraintViolation<CustomerRequestDTO> violation : validator.validate(invalidRequest, ValidationOrder.class)) {
+            bindingResult.addError(new org.springframework.validation.FieldError(
+                    "customerRequestDTO",
+                    violation.getPropertyPath().toString(),
+                    violation.getMessage()
+            ));
+        }
+        validationException = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public CustomerRequestDTO deserializeRequest() throws Exception {
+        return requestReader.readValue(REQUEST_JSON);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CustomerRequestDTO>> validateValidRequest() {
+        return validator.validate(request, ValidationOrder.class);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CustomerRequestDTO>> validateInvalidRequest() {
+        return validator.validate(invalidRequest, ValidationOrder.class);
+    }
+
+    @Benchmark
+    public Customer mapRequestToEntity() {
+        return customerMapper.toEntity(request);
+    }
+
+    @Benchmark
+    public Customer applyUpdateToEntity() {
+        customerMapper.edit(customer, update);
+        return customer;
+    }
+
+    @Benchmark
+    public CustomerResponseDTO mapEntityToResponse() {
+        return customerMapper.toDTO(customer);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> buildDuplicateErrorBody() {
+        return exceptionHandler.handleDuplicateRecordException(duplicateRecordException);
+    }
+
+    @Benchmark
+    public ResponseEntity<ValidationErrorResponse> buildValidationErrorBody() {
+        return exceptionHandler.handleMethodArgumentNotValidException(validationException);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws Exception {
+        return responseWriter.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.gabrielvelosoo.customerservice.benchmark;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.github.gabrielvelosoo.customerservice.infrastructure.security.config.JwtDecoderConfig;
+import io.github.gabrielvelosoo.customerservice.infrastructure.security.jwt.CachingJwtDecoder;
+import io.github.gabrielvelosoo.customerservice.infrastructure.security.jwt.JwkSetCache;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtDecodeBenchmark {
+
+    private static final String ISSUER = "http://localhost/realms/benchmark";
+
+    private JwtDecoder verifyingDecoder;
+    private JwtDecoder cachingDecoder;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        RSAKey key = new RSAKeyGenerator(2048).keyID("benchmark").generate();
+        JwkSetCache jwkSetCache = new JwkSetCache(() -> new JWKSet(key.toPublicJWK()), Duration.ofSeconds(1), Duration.ofSeconds(10));
+        jwkSetCache.refresh().join();
+        verifyingDecoder = JwtDecoderConfig.verifyingDecoder(jwkSetCache, ISSUER);
+        cachingDecoder = new CachingJwtDecoder(verifyingDecoder, 100_000, Duration.ofMinutes(10));
+
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .subject("0f8fad5b-d9cb-469f-a165-70867728950e")
+                .claim("preferred_username", "maria.silva@example.com")
+                .claim("realm_access", Map.of("roles", List.of("USER")))
+                .issueTime(new Date())
+                .expirationTime(Date.from(Instant.now().plus(Duration.ofHours(1))))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        token = jwt.serialize();
+    }
+
+    @Benchmark
+    public Jwt verifyEveryRequest() {
+        return verifyingDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt cachedVerification() {
+        return cachingDecoder.decode(token);
+    }
+}
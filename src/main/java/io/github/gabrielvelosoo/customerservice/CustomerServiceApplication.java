@@ -3,17 +3,21 @@ package io.github.gabrielvelosoo.customerservice;
 import org.springframework.boot.Banner;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 public class CustomerServiceApplication {
 
     public static void main(String[] args) {
         SpringApplicationBuilder builder = new SpringApplicationBuilder(CustomerServiceApplication.class);
         builder.bannerMode(Banner.Mode.OFF);
+        builder.applicationStartup(new BufferingApplicationStartup(4096));
         builder.run(args);
         ConfigurableApplicationContext context = builder.context();
         ConfigurableEnvironment environment = context.getEnvironment();
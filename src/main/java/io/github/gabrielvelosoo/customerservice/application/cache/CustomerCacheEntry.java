@@ -0,0 +1,31 @@
+package io.github.gabrielvelosoo.customerservice.application.cache;
+
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerResponseDTO;
+import io.github.gabrielvelosoo.customerservice.domain.entity.Customer;
+
+public record CustomerCacheEntry(
+        CustomerResponseDTO customer,
+        String eTag
+    ) {
+
+    public static String eTagOf(Customer customer) {
+        long version = customer.getVersion() != null ? customer.getVersion() : 0L;
+        return "\"" + customer.getId() + "-" + Long.toHexString(version) + "\"";
+    }
+
+    public boolean matches(String ifNoneMatch) {
+        if(ifNoneMatch == null) {
+            return false;
+        }
+        for(String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if(tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if(tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
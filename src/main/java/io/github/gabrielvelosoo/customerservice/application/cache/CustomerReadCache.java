@@ -0,0 +1,56 @@
+package io.github.gabrielvelosoo.customerservice.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class CustomerReadCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${customer.cache.maximum-size}")
+    private long maximumSize;
+
+    @Value("${customer.cache.time-to-live}")
+    private Duration timeToLive;
+
+    private Cache<Long, CustomerCacheEntry> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "customers");
+    }
+
+    public CustomerCacheEntry get(Long id, Function<Long, CustomerCacheEntry> loader) {
+        return cache.get(id, loader);
+    }
+
+    public void evict(Long id) {
+        cache.invalidate(id);
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(id);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.gabrielvelosoo.customerservice.application.dto;
+
+import java.time.Instant;
+
+public record CepDirectoryStatusDTO(
+        int ranges,
+        int localities,
+        long elapsedMillis,
+        Instant loadedAt
+    ) {
+}
@@ -0,0 +1,11 @@
+package io.github.gabrielvelosoo.customerservice.application.dto;
+
+import java.util.List;
+
+public record CustomerBatchResponseDTO(
+        Integer total,
+        Integer created,
+        Integer failed,
+        List<CustomerBatchResultDTO> results
+    ) {
+}
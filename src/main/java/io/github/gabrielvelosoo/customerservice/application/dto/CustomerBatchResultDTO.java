@@ -0,0 +1,10 @@
+package io.github.gabrielvelosoo.customerservice.application.dto;
+
+public record CustomerBatchResultDTO(
+        Integer index,
+        String email,
+        CustomerBatchStatus status,
+        Long id,
+        String message
+    ) {
+}
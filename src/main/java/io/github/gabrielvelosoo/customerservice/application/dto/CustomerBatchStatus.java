@@ -0,0 +1,6 @@
+package io.github.gabrielvelosoo.customerservice.application.dto;
+
+public enum CustomerBatchStatus {
+    CREATED,
+    FAILED
+}
@@ -0,0 +1,16 @@
+package io.github.gabrielvelosoo.customerservice.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import io.github.gabrielvelosoo.customerservice.domain.entity.CustomerEventType;
+
+import java.time.LocalDateTime;
+
+public record CustomerChangeDTO(
+        long sequence,
+        CustomerEventType type,
+        Long customerId,
+        Long customerVersion,
+        LocalDateTime occurredAt,
+        @JsonRawValue String customer
+    ) {
+}
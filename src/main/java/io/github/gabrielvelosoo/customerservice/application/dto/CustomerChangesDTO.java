@@ -0,0 +1,9 @@
+package io.github.gabrielvelosoo.customerservice.application.dto;
+
+import java.util.List;
+
+public record CustomerChangesDTO(
+        List<CustomerChangeDTO> changes,
+        long lastSequence
+    ) {
+}
@@ -0,0 +1,23 @@
+package io.github.gabrielvelosoo.customerservice.application.dto;
+
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.InvalidRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum CustomerExportFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String mediaType;
+
+    public static CustomerExportFormat fromValue(String value) {
+        for(CustomerExportFormat format : values()) {
+            if(format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new InvalidRequestException("Unsupported export format: " + value);
+    }
+}
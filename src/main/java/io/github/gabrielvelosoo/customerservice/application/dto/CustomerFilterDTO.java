@@ -0,0 +1,11 @@
+package io.github.gabrielvelosoo.customerservice.application.dto;
+
+import java.time.LocalDateTime;
+
+public record CustomerFilterDTO(
+        String name,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        String cepPrefix
+    ) {
+}
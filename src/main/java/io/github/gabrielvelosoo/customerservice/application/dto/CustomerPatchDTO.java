@@ -0,0 +1,25 @@
+package io.github.gabrielvelosoo.customerservice.application.dto;
+
+import io.github.gabrielvelosoo.customerservice.application.validator.constraint.ValidCpf;
+import io.github.gabrielvelosoo.customerservice.application.validator.group.ValidateOthers;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+
+public record CustomerPatchDTO(
+
+        @Size(min = 2, max = 100, message = "The field must be between 2 and 100 characters", groups = ValidateOthers.class)
+        @Pattern(regexp = ".*\\S.*", message = "The field must not be blank", groups = ValidateOthers.class)
+        String name,
+
+        @Size(min = 2, max = 100, message = "The field must be between 2 and 100 characters", groups = ValidateOthers.class)
+        @Pattern(regexp = ".*\\S.*", message = "The field must not be blank", groups = ValidateOthers.class)
+        String lastName,
+
+        @ValidCpf(message = "Invalid CPF", groups = ValidateOthers.class)
+        String cpf,
+
+        LocalDate birthDate
+    ) {
+}
@@ -1,12 +1,13 @@
 package io.github.gabrielvelosoo.customerservice.application.dto;
 
+import io.github.gabrielvelosoo.customerservice.application.validator.constraint.ValidCep;
+import io.github.gabrielvelosoo.customerservice.application.validator.constraint.ValidCpf;
 import io.github.gabrielvelosoo.customerservice.application.validator.group.ValidateNotBlank;
 import io.github.gabrielvelosoo.customerservice.application.validator.group.ValidateOthers;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
-import org.hibernate.validator.constraints.br.CPF;
 
 import java.time.LocalDate;
 
@@ -27,10 +28,11 @@ public record CustomerRequestDTO(
         @NotBlank(message = "Required field", groups = ValidateNotBlank.class)
         String password,
 
-        @CPF(message = "Invalid CPF", groups = ValidateOthers.class)
+        @ValidCpf(message = "Invalid CPF", groups = ValidateOthers.class)
         @NotBlank(message = "Required field", groups = ValidateNotBlank.class)
         String cpf,
 
+        @ValidCep(message = "Invalid CEP", groups = ValidateOthers.class)
         @NotBlank(message = "Required field", groups = ValidateNotBlank.class)
         String cep,
 
@@ -1,5 +1,8 @@
 package io.github.gabrielvelosoo.customerservice.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.github.gabrielvelosoo.customerservice.domain.entity.ProvisioningStatus;
+
 import java.time.LocalDate;
 
 public record CustomerResponseDTO(
@@ -9,6 +12,9 @@ public record CustomerResponseDTO(
         String email,
         String cpf,
         String cep,
-        LocalDate birthDate
+        LocalDate birthDate,
+        ProvisioningStatus provisioningStatus,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String city,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String state
     ) {
 }
@@ -0,0 +1,9 @@
+package io.github.gabrielvelosoo.customerservice.application.dto;
+
+public record CustomerSearchResultDTO(
+        Long id,
+        String name,
+        String lastName,
+        String email
+    ) {
+}
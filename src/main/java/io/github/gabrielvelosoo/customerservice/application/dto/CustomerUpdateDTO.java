@@ -1,11 +1,11 @@
 package io.github.gabrielvelosoo.customerservice.application.dto;
 
+import io.github.gabrielvelosoo.customerservice.application.validator.constraint.ValidCpf;
 import io.github.gabrielvelosoo.customerservice.application.validator.group.ValidateNotBlank;
 import io.github.gabrielvelosoo.customerservice.application.validator.group.ValidateOthers;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
-import org.hibernate.validator.constraints.br.CPF;
 
 import java.time.LocalDate;
 
@@ -19,7 +19,7 @@ public record CustomerUpdateDTO(
         @Size(min = 2, max = 100, message = "The field must be between 2 and 100 characters", groups = ValidateOthers.class)
         String lastName,
 
-        @CPF(message = "Invalid CPF", groups = ValidateOthers.class)
+        @ValidCpf(message = "Invalid CPF", groups = ValidateOthers.class)
         @NotBlank(message = "Required field", groups = ValidateNotBlank.class)
         String cpf,
 
@@ -0,0 +1,9 @@
+package io.github.gabrielvelosoo.customerservice.application.dto;
+
+public record ReconciliationMismatchDTO(
+        ReconciliationMismatchType type,
+        Long customerId,
+        String keycloakUserId,
+        String email
+    ) {
+}
@@ -0,0 +1,9 @@
+package io.github.gabrielvelosoo.customerservice.application.dto;
+
+public enum ReconciliationMismatchType {
+    ORPHANED_USER,
+    NAME_DRIFT,
+    UNLINKED_CUSTOMER,
+    CONFLICTING_USER,
+    MISSING_USER
+}
@@ -0,0 +1,19 @@
+package io.github.gabrielvelosoo.customerservice.application.dto;
+
+import java.util.List;
+
+public record ReconciliationReportDTO(
+        boolean repair,
+        long identityUsersScanned,
+        long linkedCustomersScanned,
+        long orphanedUsers,
+        long nameDrifts,
+        long unlinkedCustomers,
+        long conflictingUsers,
+        long missingUsers,
+        long repaired,
+        long repairFailures,
+        long elapsedMillis,
+        List<ReconciliationMismatchDTO> samples
+    ) {
+}
@@ -0,0 +1,9 @@
+package io.github.gabrielvelosoo.customerservice.application.idempotency;
+
+import java.util.concurrent.CompletableFuture;
+
+record IdempotencyRecord<T>(
+        byte[] fingerprint,
+        CompletableFuture<T> response
+    ) {
+}
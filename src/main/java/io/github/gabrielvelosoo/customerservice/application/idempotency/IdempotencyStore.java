@@ -0,0 +1,104 @@
+package io.github.gabrielvelosoo.customerservice.application.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.IdempotencyKeyReuseException;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.IdempotentRequestInProgressException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${customer.idempotency.maximum-size}")
+    private long maximumSize;
+
+    @Value("${customer.idempotency.time-to-live}")
+    private Duration timeToLive;
+
+    @Value("${customer.idempotency.in-flight-wait}")
+    private Duration inFlightWait;
+
+    private Cache<String, IdempotencyRecord<Object>> cache;
+    private ObjectWriter canonicalWriter;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        canonicalWriter = objectMapper.writer()
+                .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                .without(SerializationFeature.INDENT_OUTPUT);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "idempotency-keys");
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Object request, Supplier<T> action) {
+        byte[] fingerprint = fingerprint(request);
+        IdempotencyRecord<Object> candidate = new IdempotencyRecord<>(fingerprint, new CompletableFuture<>());
+        IdempotencyRecord<Object> existing = cache.asMap().putIfAbsent(key, candidate);
+        if(existing != null) {
+            if(!MessageDigest.isEqual(existing.fingerprint(), fingerprint)) {
+                throw new IdempotencyKeyReuseException("Idempotency-Key was already used with a different request");
+            }
+            return (T) await(existing.response());
+        }
+        try {
+            T response = action.get();
+            candidate.response().complete(response);
+            return response;
+        } catch(RuntimeException e) {
+            cache.asMap().remove(key, candidate);
+            candidate.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private byte[] fingerprint(Object request) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(canonicalWriter.writeValueAsBytes(request));
+        } catch(JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not fingerprint idempotent request", e);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> response) {
+        try {
+            return response.get(inFlightWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch(TimeoutException e) {
+            throw new IdempotentRequestInProgressException("A request with this Idempotency-Key is still being processed");
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotentRequestInProgressException("A request with this Idempotency-Key is still being processed");
+        } catch(ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
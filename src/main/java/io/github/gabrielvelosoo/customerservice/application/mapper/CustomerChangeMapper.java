@@ -0,0 +1,14 @@
+package io.github.gabrielvelosoo.customerservice.application.mapper;
+
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerChangeDTO;
+import io.github.gabrielvelosoo.customerservice.domain.entity.CustomerEvent;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public abstract class CustomerChangeMapper {
+
+    @Mapping(target = "occurredAt", source = "createdAt")
+    @Mapping(target = "customer", source = "payload")
+    public abstract CustomerChangeDTO toDTO(CustomerEvent customerEvent);
+}
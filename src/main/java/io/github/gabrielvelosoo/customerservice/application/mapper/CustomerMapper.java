@@ -1,21 +1,89 @@
 package io.github.gabrielvelosoo.customerservice.application.mapper;
 
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerPatchDTO;
 import io.github.gabrielvelosoo.customerservice.application.dto.CustomerRequestDTO;
 import io.github.gabrielvelosoo.customerservice.application.dto.CustomerResponseDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerSearchResultDTO;
 import io.github.gabrielvelosoo.customerservice.application.dto.CustomerUpdateDTO;
 import io.github.gabrielvelosoo.customerservice.domain.entity.Customer;
+import io.github.gabrielvelosoo.customerservice.domain.repository.projection.CustomerPageRow;
+import io.github.gabrielvelosoo.customerservice.domain.repository.projection.CustomerSearchRow;
+import io.github.gabrielvelosoo.customerservice.domain.service.address.CepAddress;
+import io.github.gabrielvelosoo.customerservice.domain.service.address.CepDirectory;
+import io.github.gabrielvelosoo.customerservice.domain.value.Cep;
+import io.github.gabrielvelosoo.customerservice.domain.value.Cpf;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import org.springframework.beans.factory.annotation.Autowired;
 
 @Mapper(componentModel = "spring")
 public abstract class CustomerMapper {
 
+    @Autowired
+    protected CepDirectory cepDirectory;
+
+    @Mapping(target = "cpf", source = "cpf", qualifiedByName = "normalizeCpf")
+    @Mapping(target = "cep", source = "cep", qualifiedByName = "normalizeCep")
     public abstract Customer toEntity(CustomerRequestDTO customerRequestDTO);
+    @Mapping(target = "city", source = "cep", qualifiedByName = "cityOf")
+    @Mapping(target = "state", source = "cep", qualifiedByName = "stateOf")
     public abstract CustomerResponseDTO toDTO(Customer customer);
 
+    @Mapping(target = "city", source = "cep", qualifiedByName = "cityOf")
+    @Mapping(target = "state", source = "cep", qualifiedByName = "stateOf")
+    public abstract CustomerResponseDTO toDTO(CustomerPageRow customerPageRow);
+
+    public abstract CustomerSearchResultDTO toSearchResultDTO(CustomerSearchRow customerSearchRow);
+
     public void edit(Customer customer, CustomerUpdateDTO customerUpdateDTO) {
         customer.setName(customerUpdateDTO.name());
         customer.setLastName(customerUpdateDTO.lastName());
-        customer.setCpf(customerUpdateDTO.cpf());
+        customer.setCpf(Cpf.normalize(customerUpdateDTO.cpf()));
         customer.setBirthDate(customerUpdateDTO.birthDate());
     }
+
+    public void patch(Customer customer, CustomerPatchDTO customerPatchDTO) {
+        if(customerPatchDTO.name() != null) {
+            customer.setName(customerPatchDTO.name());
+        }
+        if(customerPatchDTO.lastName() != null) {
+            customer.setLastName(customerPatchDTO.lastName());
+        }
+        if(customerPatchDTO.cpf() != null) {
+            customer.setCpf(Cpf.normalize(customerPatchDTO.cpf()));
+        }
+        if(customerPatchDTO.birthDate() != null) {
+            customer.setBirthDate(customerPatchDTO.birthDate());
+        }
+    }
+
+    @Named("normalizeCpf")
+    protected String normalizeCpf(String cpf) {
+        return Cpf.normalize(cpf);
+    }
+
+    @Named("normalizeCep")
+    protected String normalizeCep(String cep) {
+        return Cep.normalize(cep);
+    }
+
+    @Named("cityOf")
+    protected String cityOf(String cep) {
+        CepAddress address = resolve(cep);
+        return address != null ? address.city() : null;
+    }
+
+    @Named("stateOf")
+    protected String stateOf(String cep) {
+        CepAddress address = resolve(cep);
+        return address != null ? address.state() : null;
+    }
+
+    private CepAddress resolve(String cep) {
+        if(cepDirectory == null || !cepDirectory.enrichResponse()) {
+            return null;
+        }
+        return cepDirectory.resolve(cep);
+    }
 }
@@ -0,0 +1,8 @@
+package io.github.gabrielvelosoo.customerservice.application.usecase;
+
+import io.github.gabrielvelosoo.customerservice.application.dto.CepDirectoryStatusDTO;
+
+public interface CepDirectoryUseCase {
+
+    CepDirectoryStatusDTO reload();
+}
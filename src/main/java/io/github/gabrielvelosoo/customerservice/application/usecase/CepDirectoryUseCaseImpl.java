@@ -0,0 +1,32 @@
+package io.github.gabrielvelosoo.customerservice.application.usecase;
+
+import io.github.gabrielvelosoo.customerservice.application.dto.CepDirectoryStatusDTO;
+import io.github.gabrielvelosoo.customerservice.domain.service.address.CepDirectory;
+import io.github.gabrielvelosoo.customerservice.domain.service.address.CepIndex;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.InvalidRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+@Service
+@RequiredArgsConstructor
+public class CepDirectoryUseCaseImpl implements CepDirectoryUseCase {
+
+    private final CepDirectory cepDirectory;
+
+    @Override
+    public CepDirectoryStatusDTO reload() {
+        if(!cepDirectory.isConfigured()) {
+            throw new InvalidRequestException("No CEP dataset configured");
+        }
+        long start = System.nanoTime();
+        CepIndex index = cepDirectory.reload();
+        return new CepDirectoryStatusDTO(
+                index.size(),
+                index.localityCount(),
+                Duration.ofNanos(System.nanoTime() - start).toMillis(),
+                cepDirectory.loadedAt()
+        );
+    }
+}
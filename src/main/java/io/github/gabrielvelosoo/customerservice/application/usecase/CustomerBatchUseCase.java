@@ -0,0 +1,11 @@
+package io.github.gabrielvelosoo.customerservice.application.usecase;
+
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerBatchResponseDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerRequestDTO;
+
+import java.util.Iterator;
+
+public interface CustomerBatchUseCase {
+
+    CustomerBatchResponseDTO createBatch(Iterator<CustomerRequestDTO> customers);
+}
@@ -0,0 +1,241 @@
+package io.github.gabrielvelosoo.customerservice.application.usecase;
+
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerBatchResponseDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerBatchResultDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerBatchStatus;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerRequestDTO;
+import io.github.gabrielvelosoo.customerservice.application.mapper.CustomerMapper;
+import io.github.gabrielvelosoo.customerservice.application.validator.custom.CustomerValidator;
+import io.github.gabrielvelosoo.customerservice.application.validator.group.ValidationOrder;
+import io.github.gabrielvelosoo.customerservice.domain.entity.Customer;
+import io.github.gabrielvelosoo.customerservice.domain.entity.ProvisioningStatus;
+import io.github.gabrielvelosoo.customerservice.domain.repository.projection.CustomerUniqueKeys;
+import io.github.gabrielvelosoo.customerservice.domain.service.auth.IdentityProvider;
+import io.github.gabrielvelosoo.customerservice.domain.service.customer.CustomerService;
+import io.github.gabrielvelosoo.customerservice.domain.value.Cpf;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.DuplicateRecordException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CustomerBatchUseCaseImpl implements CustomerBatchUseCase {
+
+    private final CustomerService customerService;
+    private final IdentityProvider identityProvider;
+    private final CustomerMapper customerMapper;
+    private final CustomerValidator customerValidator;
+    private final Validator validator;
+
+    @Value("${customer.batch.chunk-size}")
+    private int chunkSize;
+
+    @Value("${customer.batch.identity-concurrency}")
+    private int identityConcurrency;
+
+    @Override
+    public CustomerBatchResponseDTO createBatch(Iterator<CustomerRequestDTO> customers) {
+        List<CustomerBatchResultDTO> results = new ArrayList<>();
+        List<BatchRow> chunk = new ArrayList<>(chunkSize);
+        int index = 0;
+        while(customers.hasNext()) {
+            chunk.add(readRow(index++, customers));
+            if(chunk.size() == chunkSize) {
+                processChunk(chunk, results);
+                chunk.clear();
+            }
+        }
+        if(!chunk.isEmpty()) {
+            processChunk(chunk, results);
+        }
+        int created = (int) results.stream()
+                .filter(result -> result.status() == CustomerBatchStatus.CREATED)
+                .count();
+        return new CustomerBatchResponseDTO(results.size(), created, results.size() - created, results);
+    }
+
+    private BatchRow readRow(int index, Iterator<CustomerRequestDTO> customers) {
+        CustomerRequestDTO customerRequestDTO;
+        try {
+            customerRequestDTO = customers.next();
+        } catch(RuntimeJsonMappingException e) {
+            return BatchRow.failed(index, null, "Malformed customer payload");
+        }
+        if(customerRequestDTO == null) {
+            return BatchRow.failed(index, null, "Malformed customer payload");
+        }
+        Set<ConstraintViolation<CustomerRequestDTO>> violations = validator.validate(customerRequestDTO, ValidationOrder.class);
+        if(!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            return BatchRow.failed(index, customerRequestDTO, message);
+        }
+        return new BatchRow(index, customerRequestDTO);
+    }
+
+    private void processChunk(List<BatchRow> chunk, List<CustomerBatchResultDTO> results) {
+        List<BatchRow> mapped = new ArrayList<>(chunk.size());
+        for(BatchRow row : chunk) {
+            if(row.error != null) {
+                continue;
+            }
+            try {
+                Customer customer = customerMapper.toEntity(row.request);
+                customerValidator.validateCep(customer.getCep());
+                row.customer = customer;
+                mapped.add(row);
+            } catch(RuntimeException e) {
+                row.error = e.getMessage();
+            }
+        }
+        saveChunk(provisionUsers(rejectDuplicates(mapped)));
+        for(BatchRow row : chunk) {
+            results.add(row.toResult());
+        }
+    }
+
+    private List<BatchRow> provisionUsers(List<BatchRow> rows) {
+        if(rows.isEmpty()) {
+            return rows;
+        }
+        List<Callable<Void>> creates = rows.stream()
+                .<Callable<Void>>map(row -> () -> {
+                    provisionUser(row);
+                    return null;
+                })
+                .toList();
+        ThreadFactory threadFactory = Thread.ofVirtual().name("batch-identity-", 0).factory();
+        try(ExecutorService executor = Executors.newFixedThreadPool(Math.min(identityConcurrency, rows.size()), threadFactory)) {
+            executor.invokeAll(creates);
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rows.stream()
+                    .filter(row -> row.customer.getKeycloakUserId() == null && row.error == null)
+                    .forEach(row -> row.error = "Interrupted while creating the identity user");
+        }
+        List<BatchRow> accepted = new ArrayList<>(rows.size());
+        for(BatchRow row : rows) {
+            if(row.error == null) {
+                accepted.add(row);
+            }
+        }
+        return accepted;
+    }
+
+    private void provisionUser(BatchRow row) {
+        try {
+            String keycloakUserId = identityProvider.createUser(row.request.email(), row.request.password(), row.request.name(), row.request.lastName());
+            row.customer.setKeycloakUserId(keycloakUserId);
+            row.customer.setProvisioningStatus(ProvisioningStatus.PROVISIONED);
+        } catch(RuntimeException e) {
+            row.error = e.getMessage();
+        }
+    }
+
+    private List<BatchRow> rejectDuplicates(List<BatchRow> rows) {
+        if(rows.isEmpty()) {
+            return rows;
+        }
+        Set<String> emails = new HashSet<>();
+        Set<String> cpfs = new HashSet<>();
+        for(BatchRow row : rows) {
+            emails.add(row.request.email());
+            cpfs.add(Cpf.normalize(row.request.cpf()));
+        }
+        Set<String> registeredEmails = new HashSet<>();
+        Set<String> registeredCpfs = new HashSet<>();
+        for(CustomerUniqueKeys keys : customerValidator.findRegisteredKeys(emails, cpfs)) {
+            registeredEmails.add(keys.getEmail());
+            registeredCpfs.add(keys.getCpf());
+        }
+        List<BatchRow> accepted = new ArrayList<>(rows.size());
+        for(BatchRow row : rows) {
+            String email = row.request.email();
+            String cpf = Cpf.normalize(row.request.cpf());
+            if(registeredEmails.contains(email)) {
+                row.error = "Email already registered";
+            } else if(registeredCpfs.contains(cpf)) {
+                row.error = "CPF already registered";
+            } else {
+                registeredEmails.add(email);
+                registeredCpfs.add(cpf);
+                accepted.add(row);
+            }
+        }
+        return accepted;
+    }
+
+    private void saveChunk(List<BatchRow> accepted) {
+        if(accepted.isEmpty()) {
+            return;
+        }
+        List<Customer> customers = accepted.stream()
+                .map(row -> row.customer)
+                .toList();
+        try {
+            List<Customer> savedCustomers = customerService.createAll(customers);
+            for(int i = 0; i < accepted.size(); i++) {
+                accepted.get(i).customer = savedCustomers.get(i);
+            }
+        } catch(DuplicateRecordException e) {
+            for(BatchRow row : accepted) {
+                row.error = e.getMessage();
+                deleteIdentityUser(row.customer.getKeycloakUserId());
+            }
+        }
+    }
+
+    private void deleteIdentityUser(String userId) {
+        try {
+            identityProvider.deleteUser(userId);
+        } catch(RuntimeException e) {
+            log.error("Failed to remove identity user {} after a rejected batch insert", userId, e);
+        }
+    }
+
+    private static final class BatchRow {
+
+        private final int index;
+        private final CustomerRequestDTO request;
+        private Customer customer;
+        private String error;
+
+        private BatchRow(int index, CustomerRequestDTO request) {
+            this.index = index;
+            this.request = request;
+        }
+
+        private static BatchRow failed(int index, CustomerRequestDTO request, String error) {
+            BatchRow row = new BatchRow(index, request);
+            row.error = error;
+            return row;
+        }
+
+        private CustomerBatchResultDTO toResult() {
+            String email = request != null ? request.email() : null;
+            if(error != null) {
+                return new CustomerBatchResultDTO(index, email, CustomerBatchStatus.FAILED, null, error);
+            }
+            return new CustomerBatchResultDTO(index, email, CustomerBatchStatus.CREATED, customer.getId(), null);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.gabrielvelosoo.customerservice.application.usecase;
+
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerChangesDTO;
+
+public interface CustomerChangeUseCase {
+
+    CustomerChangesDTO findAfter(long after, int limit);
+}
@@ -0,0 +1,28 @@
+package io.github.gabrielvelosoo.customerservice.application.usecase;
+
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerChangeDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerChangesDTO;
+import io.github.gabrielvelosoo.customerservice.application.mapper.CustomerChangeMapper;
+import io.github.gabrielvelosoo.customerservice.domain.service.event.CustomerEventService;
+import io.github.gabrielvelosoo.customerservice.infrastructure.persistence.PrimaryReadScope;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CustomerChangeUseCaseImpl implements CustomerChangeUseCase {
+
+    private final CustomerEventService customerEventService;
+    private final CustomerChangeMapper customerChangeMapper;
+
+    @Override
+    public CustomerChangesDTO findAfter(long after, int limit) {
+        List<CustomerChangeDTO> changes = PrimaryReadScope.call(() -> customerEventService.findPublishedAfter(after, limit)).stream()
+                .map(customerChangeMapper::toDTO)
+                .toList();
+        long lastSequence = changes.isEmpty() ? after : changes.get(changes.size() - 1).sequence();
+        return new CustomerChangesDTO(changes, lastSequence);
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.gabrielvelosoo.customerservice.application.usecase;
+
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerExportFormat;
+import io.github.gabrielvelosoo.customerservice.domain.repository.criteria.CustomerExportCriteria;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface CustomerExportUseCase {
+
+    void export(CustomerExportCriteria criteria, CustomerExportFormat format, OutputStream outputStream) throws IOException;
+}
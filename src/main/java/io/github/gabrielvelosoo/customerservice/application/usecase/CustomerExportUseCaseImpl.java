@@ -0,0 +1,123 @@
+package io.github.gabrielvelosoo.customerservice.application.usecase;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerExportFormat;
+import io.github.gabrielvelosoo.customerservice.domain.repository.CustomerExportRepository;
+import io.github.gabrielvelosoo.customerservice.domain.repository.criteria.CustomerExportCriteria;
+import io.github.gabrielvelosoo.customerservice.domain.repository.projection.CustomerExportRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+
+@Service
+@RequiredArgsConstructor
+public class CustomerExportUseCaseImpl implements CustomerExportUseCase {
+
+    private static final String CSV_HEADER = "id,name,lastName,email,cpf,cep,birthDate,provisioningStatus,createdAt,updatedAt\n";
+
+    private final CustomerExportRepository customerExportRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void export(CustomerExportCriteria criteria, CustomerExportFormat format, OutputStream outputStream) throws IOException {
+        try {
+            switch(format) {
+                case NDJSON -> exportNdjson(criteria, outputStream);
+                case CSV -> exportCsv(criteria, outputStream);
+            }
+        } catch(UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void exportNdjson(CustomerExportCriteria criteria, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.setRootValueSeparator(null);
+        customerExportRepository.streamAll(criteria, row -> {
+            try {
+                writeJson(generator, row);
+            } catch(IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.flush();
+    }
+
+    private void writeJson(JsonGenerator generator, CustomerExportRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.id());
+        generator.writeStringField("name", row.name());
+        generator.writeStringField("lastName", row.lastName());
+        generator.writeStringField("email", row.email());
+        generator.writeStringField("cpf", row.cpf());
+        generator.writeStringField("cep", row.cep());
+        generator.writeStringField("birthDate", text(row.birthDate()));
+        generator.writeStringField("provisioningStatus", row.provisioningStatus());
+        generator.writeStringField("createdAt", text(row.createdAt()));
+        generator.writeStringField("updatedAt", text(row.updatedAt()));
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private void exportCsv(CustomerExportCriteria criteria, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write(CSV_HEADER);
+        customerExportRepository.streamAll(criteria, row -> {
+            try {
+                writer.append(Long.toString(row.id())).append(',');
+                writeCsvValue(writer, row.name());
+                writer.append(',');
+                writeCsvValue(writer, row.lastName());
+                writer.append(',');
+                writeCsvValue(writer, row.email());
+                writer.append(',');
+                writeCsvValue(writer, row.cpf());
+                writer.append(',');
+                writeCsvValue(writer, row.cep());
+                writer.append(',');
+                writeCsvValue(writer, text(row.birthDate()));
+                writer.append(',');
+                writeCsvValue(writer, row.provisioningStatus());
+                writer.append(',');
+                writeCsvValue(writer, text(row.createdAt()));
+                writer.append(',');
+                writeCsvValue(writer, text(row.updatedAt()));
+                writer.append('\n');
+            } catch(IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private void writeCsvValue(Writer writer, String value) throws IOException {
+        if(value == null) {
+            return;
+        }
+        boolean quote = false;
+        for(int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if(!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private String text(TemporalAccessor value) {
+        return value != null ? value.toString() : null;
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.gabrielvelosoo.customerservice.application.usecase;
+
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerSearchResultDTO;
+
+import java.util.List;
+
+public interface CustomerSearchUseCase {
+
+    List<CustomerSearchResultDTO> search(String query, int limit);
+}
@@ -0,0 +1,64 @@
+package io.github.gabrielvelosoo.customerservice.application.usecase;
+
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerSearchResultDTO;
+import io.github.gabrielvelosoo.customerservice.application.mapper.CustomerMapper;
+import io.github.gabrielvelosoo.customerservice.domain.repository.CustomerRepository;
+import io.github.gabrielvelosoo.customerservice.domain.repository.projection.CustomerSearchRow;
+import io.github.gabrielvelosoo.customerservice.domain.service.search.CustomerSearchIndex;
+import io.github.gabrielvelosoo.customerservice.domain.service.search.SearchText;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.InvalidRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class CustomerSearchUseCaseImpl implements CustomerSearchUseCase {
+
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    private final CustomerSearchIndex customerSearchIndex;
+    private final CustomerRepository customerRepository;
+    private final CustomerMapper customerMapper;
+
+    @Override
+    public List<CustomerSearchResultDTO> search(String query, int limit) {
+        byte[][] tokens = SearchText.tokens(query);
+        if(!hasSearchableToken(tokens)) {
+            throw new InvalidRequestException("Search query must contain a term with at least " + MIN_TOKEN_LENGTH + " letters or digits");
+        }
+        long[] ids = customerSearchIndex.search(tokens, limit);
+        if(ids.length == 0) {
+            return List.of();
+        }
+        List<Long> boxedIds = new ArrayList<>(ids.length);
+        for(long id : ids) {
+            boxedIds.add(id);
+        }
+        Map<Long, CustomerSearchRow> rows = new HashMap<>(ids.length * 2);
+        for(CustomerSearchRow row : customerRepository.findSearchRows(boxedIds)) {
+            rows.put(row.id(), row);
+        }
+        List<CustomerSearchResultDTO> results = new ArrayList<>(ids.length);
+        for(Long id : boxedIds) {
+            CustomerSearchRow row = rows.get(id);
+            if(row != null) {
+                results.add(customerMapper.toSearchResultDTO(row));
+            }
+        }
+        return results;
+    }
+
+    private boolean hasSearchableToken(byte[][] tokens) {
+        for(byte[] token : tokens) {
+            if(token.length >= MIN_TOKEN_LENGTH) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,11 +1,18 @@
 package io.github.gabrielvelosoo.customerservice.application.usecase;
 
+import io.github.gabrielvelosoo.customerservice.application.cache.CustomerCacheEntry;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerFilterDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerPageDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerPatchDTO;
 import io.github.gabrielvelosoo.customerservice.application.dto.CustomerRequestDTO;
 import io.github.gabrielvelosoo.customerservice.application.dto.CustomerResponseDTO;
 import io.github.gabrielvelosoo.customerservice.application.dto.CustomerUpdateDTO;
 
 public interface CustomerUseCase {
 
-    CustomerResponseDTO create(CustomerRequestDTO customerRequestDTO);
+    CustomerResponseDTO create(CustomerRequestDTO customerRequestDTO, String idempotencyKey);
+    CustomerCacheEntry findById(Long id);
+    CustomerPageDTO list(CustomerFilterDTO customerFilterDTO, String cursor, int size);
     CustomerResponseDTO edit(Long id, CustomerUpdateDTO customerUpdateDTO);
+    CustomerResponseDTO patch(Long id, CustomerPatchDTO customerPatchDTO);
 }
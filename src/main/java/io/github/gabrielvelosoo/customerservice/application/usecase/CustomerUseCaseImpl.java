@@ -1,17 +1,40 @@
 package io.github.gabrielvelosoo.customerservice.application.usecase;
 
+import io.github.gabrielvelosoo.customerservice.application.cache.CustomerCacheEntry;
+import io.github.gabrielvelosoo.customerservice.application.cache.CustomerReadCache;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerFilterDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerPageDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerPatchDTO;
 import io.github.gabrielvelosoo.customerservice.application.dto.CustomerRequestDTO;
 import io.github.gabrielvelosoo.customerservice.application.dto.CustomerResponseDTO;
 import io.github.gabrielvelosoo.customerservice.application.dto.CustomerUpdateDTO;
+import io.github.gabrielvelosoo.customerservice.application.idempotency.IdempotencyStore;
 import io.github.gabrielvelosoo.customerservice.application.mapper.CustomerMapper;
+import io.github.gabrielvelosoo.customerservice.application.pagination.CustomerCursor;
 import io.github.gabrielvelosoo.customerservice.application.validator.custom.CustomerValidator;
 import io.github.gabrielvelosoo.customerservice.domain.entity.Customer;
+import io.github.gabrielvelosoo.customerservice.domain.entity.ProvisioningStatus;
+import io.github.gabrielvelosoo.customerservice.domain.repository.CustomerRepository;
+import io.github.gabrielvelosoo.customerservice.domain.repository.criteria.CustomerSearchCriteria;
+import io.github.gabrielvelosoo.customerservice.domain.repository.projection.CustomerPageRow;
 import io.github.gabrielvelosoo.customerservice.domain.service.customer.CustomerService;
 import io.github.gabrielvelosoo.customerservice.domain.service.auth.IdentityProvider;
+import io.github.gabrielvelosoo.customerservice.domain.service.provisioning.ProvisioningService;
+import io.github.gabrielvelosoo.customerservice.infrastructure.metrics.CustomerStage;
+import io.github.gabrielvelosoo.customerservice.infrastructure.metrics.CustomerStageMetrics;
+import io.github.gabrielvelosoo.customerservice.infrastructure.persistence.PrimaryReadScope;
+import io.github.gabrielvelosoo.customerservice.infrastructure.persistence.RecentWrites;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CustomerUseCaseImpl implements CustomerUseCase {
@@ -20,34 +43,165 @@ public class CustomerUseCaseImpl implements CustomerUseCase {
     private final IdentityProvider identityProvider;
     private final CustomerMapper customerMapper;
     private final CustomerValidator customerValidator;
+    private final ProvisioningService provisioningService;
+    private final CustomerReadCache customerReadCache;
+    private final CustomerRepository customerRepository;
+    private final CustomerStageMetrics metrics;
+    private final IdempotencyStore idempotencyStore;
+    private final RecentWrites recentWrites;
+
+    @Value("${customer.provisioning.async-enabled}")
+    private boolean asyncProvisioning;
 
     @Override
-    public CustomerResponseDTO create(CustomerRequestDTO customerRequestDTO) {
+    public CustomerResponseDTO create(CustomerRequestDTO customerRequestDTO, String idempotencyKey) {
+        if(idempotencyKey == null) {
+            return create(customerRequestDTO);
+        }
+        return idempotencyStore.execute(idempotencyKey, customerRequestDTO, () -> create(customerRequestDTO));
+    }
+
+    private CustomerResponseDTO create(CustomerRequestDTO customerRequestDTO) {
+        long start = metrics.start();
         Customer customer = customerMapper.toEntity(customerRequestDTO);
         customerValidator.validate(customer);
+        long stageStart = metrics.record(CustomerStage.CREATE_VALIDATE, start);
+        if(asyncProvisioning) {
+            Customer savedCustomer = provisioningService.enqueue(customer, customerRequestDTO.password());
+            recentWrites.record(savedCustomer.getId());
+            metrics.record(CustomerStage.CREATE_PERSIST, stageStart);
+            metrics.record(CustomerStage.CREATE_TOTAL, start);
+            return customerMapper.toDTO(savedCustomer);
+        }
         String keycloakUserId = identityProvider.createUser(
                 customerRequestDTO.email(),
                 customerRequestDTO.password(),
                 customerRequestDTO.name(),
                 customerRequestDTO.lastName()
         );
+        stageStart = metrics.record(CustomerStage.CREATE_IDENTITY, stageStart);
         customer.setKeycloakUserId(keycloakUserId);
-        Customer savedCustomer = customerService.create(customer);
+        customer.setProvisioningStatus(ProvisioningStatus.PROVISIONED);
+        Customer savedCustomer;
+        try {
+            savedCustomer = customerService.create(customer);
+        } catch(RuntimeException e) {
+            removeIdentity(keycloakUserId);
+            throw e;
+        }
+        recentWrites.record(savedCustomer.getId());
+        metrics.record(CustomerStage.CREATE_PERSIST, stageStart);
+        metrics.record(CustomerStage.CREATE_TOTAL, start);
         return customerMapper.toDTO(savedCustomer);
     }
 
     @Override
-    @Transactional
-    public CustomerResponseDTO edit(Long id, CustomerUpdateDTO customerUpdateDTO) {
-        Customer customer = customerService.findById(id);
-        customerValidator.validate(customer);
-        identityProvider.editUser(
-                customer.getKeycloakUserId(),
-                customerUpdateDTO.name(),
-                customerUpdateDTO.lastName()
+    public CustomerCacheEntry findById(Long id) {
+        return customerReadCache.get(id, customerId -> {
+            Customer customer = recentWrites.read(customerId, () -> customerService.findById(customerId));
+            return new CustomerCacheEntry(customerMapper.toDTO(customer), CustomerCacheEntry.eTagOf(customer));
+        });
+    }
+
+    @Override
+    public CustomerPageDTO list(CustomerFilterDTO customerFilterDTO, String cursor, int size) {
+        CustomerCursor after = cursor != null ? CustomerCursor.decode(cursor) : null;
+        CustomerSearchCriteria criteria = new CustomerSearchCriteria(
+                customerFilterDTO.name(),
+                customerFilterDTO.createdFrom(),
+                customerFilterDTO.createdTo(),
+                customerFilterDTO.cepPrefix(),
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                size + 1
         );
-        customerMapper.edit(customer, customerUpdateDTO);
-        Customer editedCustomer = customerService.edit(customer);
+        List<CustomerPageRow> rows = customerRepository.findPage(criteria);
+        boolean hasNext = rows.size() > size;
+        List<CustomerPageRow> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if(hasNext) {
+            CustomerPageRow last = page.get(page.size() - 1);
+            nextCursor = new CustomerCursor(last.createdAt(), last.id()).encode();
+        }
+        List<CustomerResponseDTO> content = page.stream()
+                .map(customerMapper::toDTO)
+                .toList();
+        return new CustomerPageDTO(content, nextCursor);
+    }
+
+    @Override
+    public CustomerResponseDTO edit(Long id, CustomerUpdateDTO customerUpdateDTO) {
+        return applyEdit(id, customer -> customerMapper.edit(customer, customerUpdateDTO));
+    }
+
+    @Override
+    public CustomerResponseDTO patch(Long id, CustomerPatchDTO customerPatchDTO) {
+        return applyEdit(id, customer -> customerMapper.patch(customer, customerPatchDTO));
+    }
+
+    private CustomerResponseDTO applyEdit(Long id, Consumer<Customer> changes) {
+        long start = metrics.start();
+        Customer customer = PrimaryReadScope.call(() -> customerService.findById(id));
+        long stageStart = metrics.record(CustomerStage.EDIT_LOAD, start);
+        String previousName = customer.getName();
+        String previousLastName = customer.getLastName();
+        String previousCpf = customer.getCpf();
+        changes.accept(customer);
+        if(!Objects.equals(previousCpf, customer.getCpf())) {
+            customerValidator.validateCpf(customer.getId(), customer.getCpf());
+        }
+        stageStart = metrics.record(CustomerStage.EDIT_VALIDATE, stageStart);
+        boolean identityChanged = customer.getKeycloakUserId() != null
+                && (!Objects.equals(previousName, customer.getName()) || !Objects.equals(previousLastName, customer.getLastName()));
+        if(identityChanged) {
+            identityProvider.editUser(customer.getKeycloakUserId(), customer.getName(), customer.getLastName());
+        }
+        stageStart = metrics.record(CustomerStage.EDIT_IDENTITY, stageStart);
+        Customer editedCustomer;
+        try {
+            editedCustomer = customerService.edit(customer);
+        } catch(ObjectOptimisticLockingFailureException e) {
+            if(identityChanged) {
+                restoreCommittedIdentity(id);
+            }
+            throw e;
+        } catch(RuntimeException e) {
+            if(identityChanged) {
+                restoreIdentity(customer.getKeycloakUserId(), previousName, previousLastName);
+            }
+            throw e;
+        }
+        recentWrites.record(id);
+        customerReadCache.evict(id);
+        metrics.record(CustomerStage.EDIT_PERSIST, stageStart);
+        metrics.record(CustomerStage.EDIT_TOTAL, start);
         return customerMapper.toDTO(editedCustomer);
     }
+
+    private void removeIdentity(String keycloakUserId) {
+        try {
+            identityProvider.deleteUser(keycloakUserId);
+        } catch(RuntimeException e) {
+            log.warn("Could not remove identity provider user {} after a failed create: {}", keycloakUserId, e.getMessage());
+        }
+    }
+
+    private void restoreCommittedIdentity(Long id) {
+        Customer committed;
+        try {
+            committed = PrimaryReadScope.call(() -> customerService.findById(id));
+        } catch(RuntimeException e) {
+            log.warn("Could not reload customer {} to restore its identity provider user: {}", id, e.getMessage());
+            return;
+        }
+        restoreIdentity(committed.getKeycloakUserId(), committed.getName(), committed.getLastName());
+    }
+
+    private void restoreIdentity(String keycloakUserId, String name, String lastName) {
+        try {
+            identityProvider.editUser(keycloakUserId, name, lastName);
+        } catch(RuntimeException e) {
+            log.warn("Could not restore identity provider user {} after a failed edit: {}", keycloakUserId, e.getMessage());
+        }
+    }
 }
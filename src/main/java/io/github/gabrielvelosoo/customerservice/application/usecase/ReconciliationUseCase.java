@@ -0,0 +1,8 @@
+package io.github.gabrielvelosoo.customerservice.application.usecase;
+
+import io.github.gabrielvelosoo.customerservice.application.dto.ReconciliationReportDTO;
+
+public interface ReconciliationUseCase {
+
+    ReconciliationReportDTO reconcile(boolean repair);
+}
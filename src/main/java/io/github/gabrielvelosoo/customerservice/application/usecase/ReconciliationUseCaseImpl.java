@@ -0,0 +1,293 @@
+package io.github.gabrielvelosoo.customerservice.application.usecase;
+
+import io.github.gabrielvelosoo.customerservice.application.cache.CustomerReadCache;
+import io.github.gabrielvelosoo.customerservice.application.dto.ReconciliationMismatchDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.ReconciliationMismatchType;
+import io.github.gabrielvelosoo.customerservice.application.dto.ReconciliationReportDTO;
+import io.github.gabrielvelosoo.customerservice.domain.entity.Customer;
+import io.github.gabrielvelosoo.customerservice.domain.entity.ProvisioningStatus;
+import io.github.gabrielvelosoo.customerservice.domain.repository.CustomerRepository;
+import io.github.gabrielvelosoo.customerservice.domain.repository.projection.CustomerIdentityRow;
+import io.github.gabrielvelosoo.customerservice.domain.service.auth.IdentityProvider;
+import io.github.gabrielvelosoo.customerservice.domain.service.auth.IdentityUser;
+import io.github.gabrielvelosoo.customerservice.domain.service.customer.CustomerService;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.ReconciliationInProgressException;
+import io.github.gabrielvelosoo.customerservice.infrastructure.persistence.PrimaryReadScope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReconciliationUseCaseImpl implements ReconciliationUseCase {
+
+    private final IdentityProvider identityProvider;
+    private final CustomerRepository customerRepository;
+    private final CustomerService customerService;
+    private final CustomerReadCache customerReadCache;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${customer.reconciliation.page-size}")
+    private int pageSize;
+
+    @Value("${customer.reconciliation.parallelism}")
+    private int parallelism;
+
+    @Value("${customer.reconciliation.orphan-grace-period}")
+    private Duration orphanGracePeriod;
+
+    @Value("${customer.reconciliation.delete-orphans}")
+    private boolean deleteOrphans;
+
+    @Value("${customer.reconciliation.max-orphan-deletes}")
+    private int maxOrphanDeletes;
+
+    @Value("${customer.reconciliation.max-samples}")
+    private int maxSamples;
+
+    @Override
+    public ReconciliationReportDTO reconcile(boolean repair) {
+        if(!running.compareAndSet(false, true)) {
+            throw new ReconciliationInProgressException("Reconciliation is already running");
+        }
+        try {
+            ReconciliationReportDTO report = new ReconciliationRun(repair).execute();
+            log.info("Reconciliation finished: {}", report);
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private final class ReconciliationRun {
+
+        private final boolean repair;
+        private final Instant startedAt = Instant.now();
+        private final BitSet matchedCustomerIds = new BitSet();
+        private final ReentrantLock matchedCustomerIdsLock = new ReentrantLock();
+        private final AtomicInteger nextPage = new AtomicInteger();
+        private final AtomicBoolean exhausted = new AtomicBoolean();
+        private final LongAdder identityUsersScanned = new LongAdder();
+        private final LongAdder linkedCustomersScanned = new LongAdder();
+        private final LongAdder repaired = new LongAdder();
+        private final LongAdder repairFailures = new LongAdder();
+        private final Map<ReconciliationMismatchType, LongAdder> mismatches = new EnumMap<>(ReconciliationMismatchType.class);
+        private final Queue<ReconciliationMismatchDTO> samples = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger sampleCount = new AtomicInteger();
+        private final Queue<String> orphansToDelete = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger orphansQueued = new AtomicInteger();
+
+        private ReconciliationRun(boolean repair) {
+            this.repair = repair;
+            for(ReconciliationMismatchType type : ReconciliationMismatchType.values()) {
+                mismatches.put(type, new LongAdder());
+            }
+        }
+
+        private ReconciliationReportDTO execute() {
+            long start = System.nanoTime();
+            scanIdentityUsers();
+            deleteOrphans();
+            scanLinkedCustomers();
+            return new ReconciliationReportDTO(
+                    repair,
+                    identityUsersScanned.sum(),
+                    linkedCustomersScanned.sum(),
+                    count(ReconciliationMismatchType.ORPHANED_USER),
+                    count(ReconciliationMismatchType.NAME_DRIFT),
+                    count(ReconciliationMismatchType.UNLINKED_CUSTOMER),
+                    count(ReconciliationMismatchType.CONFLICTING_USER),
+                    count(ReconciliationMismatchType.MISSING_USER),
+                    repaired.sum(),
+                    repairFailures.sum(),
+                    Duration.ofNanos(System.nanoTime() - start).toMillis(),
+                    List.copyOf(samples)
+            );
+        }
+
+        private void scanIdentityUsers() {
+            try(ExecutorService executor = Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().name("reconciliation-", 0).factory())) {
+                List<Future<?>> workers = new ArrayList<>(parallelism);
+                for(int i = 0; i < parallelism; i++) {
+                    workers.add(executor.submit(this::scanPages));
+                }
+                for(Future<?> worker : workers) {
+                    await(worker);
+                }
+            }
+        }
+
+        private void await(Future<?> worker) {
+            try {
+                worker.get();
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while reconciling identity provider users", e);
+            } catch(ExecutionException e) {
+                if(e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        private void scanPages() {
+            try {
+                while(!exhausted.get()) {
+                    int page = nextPage.getAndIncrement();
+                    List<IdentityUser> users = identityProvider.listCustomerUsers(page * pageSize, pageSize);
+                    if(users.size() < pageSize) {
+                        exhausted.set(true);
+                    }
+                    if(!users.isEmpty()) {
+                        reconcilePage(users);
+                    }
+                }
+            } catch(RuntimeException e) {
+                exhausted.set(true);
+                throw e;
+            }
+        }
+
+        private void reconcilePage(List<IdentityUser> users) {
+            identityUsersScanned.add(users.size());
+            Set<String> userIds = new HashSet<>(users.size() * 2);
+            Set<String> emails = new HashSet<>(users.size() * 2);
+            for(IdentityUser user : users) {
+                userIds.add(user.id());
+                if(user.email() != null) {
+                    emails.add(user.email().toLowerCase(Locale.ROOT));
+                }
+            }
+            Map<String, CustomerIdentityRow> customersByUserId = new HashMap<>();
+            Map<String, CustomerIdentityRow> customersByEmail = new HashMap<>();
+            for(CustomerIdentityRow row : customerRepository.findIdentityRows(userIds, emails)) {
+                if(row.getKeycloakUserId() != null) {
+                    customersByUserId.put(row.getKeycloakUserId(), row);
+                }
+                customersByEmail.put(row.getEmail().toLowerCase(Locale.ROOT), row);
+            }
+            List<Long> matched = new ArrayList<>(users.size());
+            for(IdentityUser user : users) {
+                CustomerIdentityRow customer = customersByUserId.get(user.id());
+                if(customer != null) {
+                    matched.add(customer.getId());
+                    if(!Objects.equals(customer.getName(), user.firstName()) || !Objects.equals(customer.getLastName(), user.lastName())) {
+                        mismatch(ReconciliationMismatchType.NAME_DRIFT, customer.getId(), user.id(), customer.getEmail());
+                        if(repair) {
+                            attemptRepair(() -> identityProvider.editUser(user.id(), customer.getName(), customer.getLastName()));
+                        }
+                    }
+                    continue;
+                }
+                CustomerIdentityRow byEmail = user.email() != null ? customersByEmail.get(user.email().toLowerCase(Locale.ROOT)) : null;
+                if(byEmail == null) {
+                    mismatch(ReconciliationMismatchType.ORPHANED_USER, null, user.id(), user.email());
+                    if(repair && deleteOrphans && isPastGracePeriod(user) && orphansQueued.incrementAndGet() <= maxOrphanDeletes) {
+                        orphansToDelete.add(user.id());
+                    }
+                } else if(byEmail.getKeycloakUserId() == null) {
+                    mismatch(ReconciliationMismatchType.UNLINKED_CUSTOMER, byEmail.getId(), user.id(), byEmail.getEmail());
+                    if(repair && byEmail.getProvisioningStatus() != ProvisioningStatus.PENDING) {
+                        attemptRepair(() -> link(byEmail.getId(), user.id()));
+                    }
+                } else {
+                    mismatch(ReconciliationMismatchType.CONFLICTING_USER, byEmail.getId(), user.id(), byEmail.getEmail());
+                }
+            }
+            matchedCustomerIdsLock.lock();
+            try {
+                for(Long customerId : matched) {
+                    matchedCustomerIds.set(Math.toIntExact(customerId));
+                }
+            } finally {
+                matchedCustomerIdsLock.unlock();
+            }
+        }
+
+        private void deleteOrphans() {
+            for(String userId : orphansToDelete) {
+                attemptRepair(() -> identityProvider.deleteUser(userId));
+            }
+        }
+
+        private void scanLinkedCustomers() {
+            LocalDateTime createdBefore = LocalDateTime.ofInstant(startedAt, ZoneId.systemDefault());
+            Long afterId = 0L;
+            while(true) {
+                List<CustomerIdentityRow> rows = customerRepository.findLinkedIdentityRowsAfter(afterId, createdBefore, Limit.of(pageSize));
+                if(rows.isEmpty()) {
+                    return;
+                }
+                linkedCustomersScanned.add(rows.size());
+                for(CustomerIdentityRow row : rows) {
+                    if(!matchedCustomerIds.get(Math.toIntExact(row.getId()))) {
+                        mismatch(ReconciliationMismatchType.MISSING_USER, row.getId(), row.getKeycloakUserId(), row.getEmail());
+                    }
+                }
+                afterId = rows.get(rows.size() - 1).getId();
+            }
+        }
+
+        private void link(Long customerId, String keycloakUserId) {
+            Customer customer = PrimaryReadScope.call(() -> customerService.findById(customerId));
+            customer.setKeycloakUserId(keycloakUserId);
+            customer.setProvisioningStatus(ProvisioningStatus.PROVISIONED);
+            customerService.edit(customer);
+            customerReadCache.evict(customerId);
+        }
+
+        private boolean isPastGracePeriod(IdentityUser user) {
+            return user.createdAt() != null && !user.createdAt().isAfter(startedAt.minus(orphanGracePeriod));
+        }
+
+        private void attemptRepair(Runnable action) {
+            try {
+                action.run();
+                repaired.increment();
+            } catch(RuntimeException e) {
+                repairFailures.increment();
+                log.warn("Reconciliation repair failed: {}", e.getMessage());
+            }
+        }
+
+        private void mismatch(ReconciliationMismatchType type, Long customerId, String keycloakUserId, String email) {
+            mismatches.get(type).increment();
+            if(sampleCount.incrementAndGet() <= maxSamples) {
+                samples.add(new ReconciliationMismatchDTO(type, customerId, keycloakUserId, email));
+            }
+        }
+
+        private long count(ReconciliationMismatchType type) {
+            return mismatches.get(type).sum();
+        }
+    }
+}
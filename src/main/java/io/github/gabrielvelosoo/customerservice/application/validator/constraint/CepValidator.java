@@ -0,0 +1,13 @@
+package io.github.gabrielvelosoo.customerservice.application.validator.constraint;
+
+import io.github.gabrielvelosoo.customerservice.domain.value.Cep;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class CepValidator implements ConstraintValidator<ValidCep, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || Cep.isValid(value);
+    }
+}
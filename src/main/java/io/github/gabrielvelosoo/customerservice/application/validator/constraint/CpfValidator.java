@@ -0,0 +1,13 @@
+package io.github.gabrielvelosoo.customerservice.application.validator.constraint;
+
+import io.github.gabrielvelosoo.customerservice.domain.value.Cpf;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class CpfValidator implements ConstraintValidator<ValidCpf, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || Cpf.isValid(value);
+    }
+}
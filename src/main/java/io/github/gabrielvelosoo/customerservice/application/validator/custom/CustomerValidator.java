@@ -2,10 +2,16 @@ package io.github.gabrielvelosoo.customerservice.application.validator.custom;
 
 import io.github.gabrielvelosoo.customerservice.domain.entity.Customer;
 import io.github.gabrielvelosoo.customerservice.domain.repository.CustomerRepository;
+import io.github.gabrielvelosoo.customerservice.domain.repository.projection.CustomerUniqueKeys;
+import io.github.gabrielvelosoo.customerservice.domain.service.address.CepDirectory;
+import io.github.gabrielvelosoo.customerservice.domain.service.duplicate.CustomerDuplicateScreen;
 import io.github.gabrielvelosoo.customerservice.infrastructure.exception.DuplicateRecordException;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.InvalidRequestException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -13,20 +19,46 @@ import java.util.Optional;
 public class CustomerValidator {
 
     private final CustomerRepository customerRepository;
+    private final CustomerDuplicateScreen customerDuplicateScreen;
+    private final CepDirectory cepDirectory;
 
     public void validate(Customer customer) {
-        if(customerHasRegisteredEmail(customer)) {
+        validateEmail(customer.getId(), customer.getEmail());
+        validateCpf(customer.getId(), customer.getCpf());
+        validateCep(customer.getCep());
+    }
+
+    public void validateEmail(Long id, String email) {
+        if(customerDuplicateScreen.mightContainEmail(email) && isTakenByAnother(id, customerRepository.findIdByEmail(email))) {
             throw new DuplicateRecordException("Email already registered");
         }
     }
 
-    private boolean customerHasRegisteredEmail(Customer customer) {
-        Optional<Customer> foundCustomer = customerRepository.findByEmail(customer.getEmail());
-        if(customer.getId() == null) {
-            return foundCustomer.isPresent();
+    public void validateCpf(Long id, String cpf) {
+        if(customerDuplicateScreen.mightContainCpf(cpf) && isTakenByAnother(id, customerRepository.findIdByCpf(cpf))) {
+            throw new DuplicateRecordException("CPF already registered");
+        }
+    }
+
+    public void validateCep(String cep) {
+        if(!cepDirectory.isKnown(cep)) {
+            throw new InvalidRequestException("Unknown CEP");
+        }
+    }
+
+    public List<CustomerUniqueKeys> findRegisteredKeys(Collection<String> emails, Collection<String> cpfs) {
+        if(emails.isEmpty() && cpfs.isEmpty()) {
+            return List.of();
+        }
+        return customerRepository.findUniqueKeys(emails, cpfs);
+    }
+
+    private boolean isTakenByAnother(Long id, Optional<Long> foundId) {
+        if(id == null) {
+            return foundId.isPresent();
         }
-        return foundCustomer
-                .map(c -> !c.getId().equals(customer.getId()))
+        return foundId
+                .map(found -> !found.equals(id))
                 .orElse(false);
     }
 }
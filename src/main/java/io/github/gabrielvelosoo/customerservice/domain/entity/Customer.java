@@ -1,8 +1,14 @@
 package io.github.gabrielvelosoo.customerservice.domain.entity;
 
+import io.github.gabrielvelosoo.customerservice.domain.entity.converter.CepConverter;
+import io.github.gabrielvelosoo.customerservice.domain.entity.converter.CpfConverter;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,14 +18,25 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tb_customer")
+@Table(name = "tb_customer", indexes = {
+        @Index(name = "idx_customer_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_customer_cep", columnList = "cep"),
+        @Index(name = "idx_customer_updated_at", columnList = "updated_at")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Customer.CACHE_REGION)
+@NaturalIdCache(region = Customer.NATURAL_ID_CACHE_REGION)
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
 public class Customer implements Serializable {
 
+    public static final String CACHE_REGION = "customer";
+    public static final String NATURAL_ID_CACHE_REGION = "customer-natural-id";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_seq")
+    @SequenceGenerator(name = "customer_seq", sequenceName = "tb_customer_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -28,16 +45,23 @@ public class Customer implements Serializable {
     @Column(name = "last_name", nullable = false, length = 100)
     private String lastName;
 
-    @Column(name = "keycloak_user_id", nullable = false)
+    @Column(name = "keycloak_user_id")
     private String keycloakUserId;
 
-    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "provisioning_status", length = 20)
+    private ProvisioningStatus provisioningStatus;
+
+    @NaturalId
+    @Column(nullable = false, unique = true)
     private String email;
 
-    @Column(nullable = false, unique = true, length = 11)
+    @Convert(converter = CpfConverter.class)
+    @Column(nullable = false, unique = true)
     private String cpf;
 
-    @Column(nullable = false, length = 8)
+    @Convert(converter = CepConverter.class)
+    @Column(nullable = false)
     private String cep;
 
     @Column(name = "birth_date", nullable = false)
@@ -50,4 +74,8 @@ public class Customer implements Serializable {
     @LastModifiedDate
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private Long version;
 }
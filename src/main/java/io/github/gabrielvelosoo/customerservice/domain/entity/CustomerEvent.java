@@ -0,0 +1,46 @@
+package io.github.gabrielvelosoo.customerservice.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "tb_customer_event")
+@Getter
+@Setter
+@EntityListeners(AuditingEntityListener.class)
+public class CustomerEvent implements Serializable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_event_seq")
+    @SequenceGenerator(name = "customer_event_seq", sequenceName = "tb_customer_event_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "event_sequence", unique = true)
+    private Long sequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private CustomerEventType type;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Column(name = "customer_version", nullable = false)
+    private Long customerVersion;
+
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @CreatedDate
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+}
@@ -0,0 +1,6 @@
+package io.github.gabrielvelosoo.customerservice.domain.entity;
+
+public enum CustomerEventType {
+    CUSTOMER_CREATED,
+    CUSTOMER_UPDATED
+}
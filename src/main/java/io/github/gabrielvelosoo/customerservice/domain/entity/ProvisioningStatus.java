@@ -0,0 +1,7 @@
+package io.github.gabrielvelosoo.customerservice.domain.entity;
+
+public enum ProvisioningStatus {
+    PENDING,
+    PROVISIONED,
+    FAILED
+}
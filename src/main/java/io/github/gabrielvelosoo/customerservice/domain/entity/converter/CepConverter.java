@@ -0,0 +1,26 @@
+package io.github.gabrielvelosoo.customerservice.domain.entity.converter;
+
+import io.github.gabrielvelosoo.customerservice.domain.value.Cep;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class CepConverter implements AttributeConverter<String, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(String attribute) {
+        if(attribute == null) {
+            return null;
+        }
+        int value = Cep.toInt(attribute);
+        if(value < 0) {
+            throw new IllegalArgumentException("Invalid CEP: " + attribute);
+        }
+        return value;
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer dbData) {
+        return dbData == null ? null : Cep.format(dbData);
+    }
+}
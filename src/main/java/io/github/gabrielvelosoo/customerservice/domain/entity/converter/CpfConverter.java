@@ -0,0 +1,26 @@
+package io.github.gabrielvelosoo.customerservice.domain.entity.converter;
+
+import io.github.gabrielvelosoo.customerservice.domain.value.Cpf;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class CpfConverter implements AttributeConverter<String, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(String attribute) {
+        if(attribute == null) {
+            return null;
+        }
+        long value = Cpf.toLong(attribute);
+        if(value < 0) {
+            throw new IllegalArgumentException("Invalid CPF: " + attribute);
+        }
+        return value;
+    }
+
+    @Override
+    public String convertToEntityAttribute(Long dbData) {
+        return dbData == null ? null : Cpf.format(dbData);
+    }
+}
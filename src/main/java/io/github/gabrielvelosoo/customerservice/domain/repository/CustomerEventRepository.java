@@ -0,0 +1,24 @@
+package io.github.gabrielvelosoo.customerservice.domain.repository;
+
+import io.github.gabrielvelosoo.customerservice.domain.entity.CustomerEvent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface CustomerEventRepository extends JpaRepository<CustomerEvent, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from CustomerEvent e where e.sequence is null order by e.id")
+    List<CustomerEvent> findUnpublished(Limit limit);
+
+    @Query("select coalesce(max(e.sequence), 0) from CustomerEvent e")
+    long findLastSequence();
+
+    @Query("select e from CustomerEvent e where e.sequence > :after order by e.sequence")
+    List<CustomerEvent> findPublishedAfter(@Param("after") long after, Limit limit);
+}
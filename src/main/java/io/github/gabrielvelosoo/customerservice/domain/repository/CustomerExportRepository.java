@@ -0,0 +1,11 @@
+package io.github.gabrielvelosoo.customerservice.domain.repository;
+
+import io.github.gabrielvelosoo.customerservice.domain.repository.criteria.CustomerExportCriteria;
+import io.github.gabrielvelosoo.customerservice.domain.repository.projection.CustomerExportRow;
+
+import java.util.function.Consumer;
+
+public interface CustomerExportRepository {
+
+    void streamAll(CustomerExportCriteria criteria, Consumer<CustomerExportRow> consumer);
+}
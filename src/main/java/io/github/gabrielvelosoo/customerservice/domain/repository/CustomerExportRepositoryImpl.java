@@ -0,0 +1,72 @@
+package io.github.gabrielvelosoo.customerservice.domain.repository;
+
+import io.github.gabrielvelosoo.customerservice.domain.repository.criteria.CustomerExportCriteria;
+import io.github.gabrielvelosoo.customerservice.domain.repository.projection.CustomerExportRow;
+import io.github.gabrielvelosoo.customerservice.domain.value.Cep;
+import io.github.gabrielvelosoo.customerservice.domain.value.Cpf;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Repository
+@RequiredArgsConstructor
+public class CustomerExportRepositoryImpl implements CustomerExportRepository {
+
+    private static final String SELECT = "select id, name, last_name, email, cpf, cep, birth_date, provisioning_status, created_at, updated_at from tb_customer";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${customer.export.fetch-size}")
+    private int fetchSize;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(CustomerExportCriteria criteria, Consumer<CustomerExportRow> consumer) {
+        StringBuilder sql = new StringBuilder(SELECT);
+        List<LocalDateTime> parameters = new ArrayList<>(2);
+        if(criteria.createdSince() != null) {
+            sql.append(parameters.isEmpty() ? " where" : " and").append(" created_at > ?");
+            parameters.add(criteria.createdSince());
+        }
+        if(criteria.updatedSince() != null) {
+            sql.append(parameters.isEmpty() ? " where" : " and").append(" updated_at > ?");
+            parameters.add(criteria.updatedSince());
+        }
+        sql.append(" order by id");
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(fetchSize);
+                    for(int i = 0; i < parameters.size(); i++) {
+                        statement.setTimestamp(i + 1, Timestamp.valueOf(parameters.get(i)));
+                    }
+                    return statement;
+                },
+                resultSet -> {
+                    consumer.accept(new CustomerExportRow(
+                            resultSet.getLong(1),
+                            resultSet.getString(2),
+                            resultSet.getString(3),
+                            resultSet.getString(4),
+                            Cpf.format(resultSet.getLong(5)),
+                            Cep.format(resultSet.getInt(6)),
+                            resultSet.getObject(7, LocalDate.class),
+                            resultSet.getString(8),
+                            resultSet.getObject(9, LocalDateTime.class),
+                            resultSet.getObject(10, LocalDateTime.class)
+                    ));
+                }
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.gabrielvelosoo.customerservice.domain.repository;
+
+import io.github.gabrielvelosoo.customerservice.domain.repository.criteria.CustomerSearchCriteria;
+import io.github.gabrielvelosoo.customerservice.domain.repository.projection.CustomerPageRow;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CustomerQueryRepository {
+
+    List<CustomerPageRow> findPage(CustomerSearchCriteria criteria);
+    Optional<Long> findIdByEmail(String email);
+}
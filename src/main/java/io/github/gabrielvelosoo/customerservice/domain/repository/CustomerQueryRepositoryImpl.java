@@ -0,0 +1,103 @@
+package io.github.gabrielvelosoo.customerservice.domain.repository;
+
+import io.github.gabrielvelosoo.customerservice.domain.entity.Customer;
+import io.github.gabrielvelosoo.customerservice.domain.repository.criteria.CustomerSearchCriteria;
+import io.github.gabrielvelosoo.customerservice.domain.repository.projection.CustomerPageRow;
+import io.github.gabrielvelosoo.customerservice.domain.value.Cep;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class CustomerQueryRepositoryImpl implements CustomerQueryRepository {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CustomerPageRow> findPage(CustomerSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CustomerPageRow> query = cb.createQuery(CustomerPageRow.class);
+        Root<Customer> customer = query.from(Customer.class);
+        Path<LocalDateTime> createdAt = customer.get("createdAt");
+        Path<Long> id = customer.get("id");
+        Path<String> name = customer.get("name");
+        Path<String> cep = customer.get("cep");
+        query.select(cb.construct(
+                CustomerPageRow.class,
+                id,
+                name,
+                customer.get("lastName"),
+                customer.get("email"),
+                customer.get("cpf"),
+                cep,
+                customer.get("birthDate"),
+                customer.get("provisioningStatus"),
+                createdAt
+        ));
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.isNotNull(createdAt));
+        if(criteria.name() != null) {
+            predicates.add(cb.like(cb.lower(name), escapeLike(criteria.name().toLowerCase()) + "%", LIKE_ESCAPE));
+        }
+        if(criteria.createdFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(createdAt, criteria.createdFrom()));
+        }
+        if(criteria.createdTo() != null) {
+            predicates.add(cb.lessThan(createdAt, criteria.createdTo()));
+        }
+        if(criteria.cepPrefix() != null) {
+            int scale = (int) Math.pow(10, Cep.LENGTH - criteria.cepPrefix().length());
+            int start = Integer.parseInt(criteria.cepPrefix()) * scale;
+            predicates.add(cb.greaterThanOrEqualTo(cep, Cep.format(start)));
+            if(start + scale <= Cep.MAX_VALUE) {
+                predicates.add(cb.lessThan(cep, Cep.format(start + scale)));
+            }
+        }
+        if(criteria.beforeCreatedAt() != null) {
+            predicates.add(cb.lessThanOrEqualTo(createdAt, criteria.beforeCreatedAt()));
+            predicates.add(cb.or(
+                    cb.lessThan(createdAt, criteria.beforeCreatedAt()),
+                    cb.and(cb.equal(createdAt, criteria.beforeCreatedAt()), cb.lessThan(id, criteria.beforeId()))
+            ));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(cb.desc(createdAt), cb.desc(id));
+        return entityManager.createQuery(query)
+                .setMaxResults(criteria.limit())
+                .getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> findIdByEmail(String email) {
+        Session session = entityManager.unwrap(Session.class);
+        Customer reference = session.bySimpleNaturalId(Customer.class).getReference(email);
+        return Optional.ofNullable(reference).map(customer -> (Long) session.getIdentifier(customer));
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for(int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if(c == LIKE_ESCAPE || c == '%' || c == '_') {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
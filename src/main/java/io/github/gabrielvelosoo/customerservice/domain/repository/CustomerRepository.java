@@ -1,11 +1,54 @@
 package io.github.gabrielvelosoo.customerservice.domain.repository;
 
 import io.github.gabrielvelosoo.customerservice.domain.entity.Customer;
+import io.github.gabrielvelosoo.customerservice.domain.repository.projection.CustomerIdentityRow;
+import io.github.gabrielvelosoo.customerservice.domain.repository.projection.CustomerSearchRow;
+import io.github.gabrielvelosoo.customerservice.domain.repository.projection.CustomerUniqueKeys;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface CustomerRepository extends JpaRepository<Customer, Long> {
+public interface CustomerRepository extends JpaRepository<Customer, Long>, CustomerQueryRepository {
 
-    Optional<Customer> findByEmail(String email);
+    @Transactional(readOnly = true)
+    @Query("select c.id from Customer c where c.cpf = :cpf")
+    Optional<Long> findIdByCpf(@Param("cpf") String cpf);
+
+    @Transactional(readOnly = true)
+    @Query("select c.email as email, c.cpf as cpf from Customer c where c.email in :emails or c.cpf in :cpfs")
+    List<CustomerUniqueKeys> findUniqueKeys(@Param("emails") Collection<String> emails, @Param("cpfs") Collection<String> cpfs);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select c.email as email, c.cpf as cpf from Customer c")
+    Stream<CustomerUniqueKeys> streamUniqueKeys();
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select c.email as email, c.cpf as cpf from Customer c where c.updatedAt >= :since")
+    Stream<CustomerUniqueKeys> streamUniqueKeysUpdatedSince(@Param("since") LocalDateTime since);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select new io.github.gabrielvelosoo.customerservice.domain.repository.projection.CustomerSearchRow(c.id, c.name, c.lastName, c.email) from Customer c")
+    Stream<CustomerSearchRow> streamSearchRows();
+
+    @Transactional(readOnly = true)
+    @Query("select new io.github.gabrielvelosoo.customerservice.domain.repository.projection.CustomerSearchRow(c.id, c.name, c.lastName, c.email) from Customer c where c.id in :ids")
+    List<CustomerSearchRow> findSearchRows(@Param("ids") Collection<Long> ids);
+
+    @Query("select c.id as id, c.keycloakUserId as keycloakUserId, c.email as email, c.name as name, c.lastName as lastName, c.provisioningStatus as provisioningStatus " +
+            "from Customer c where c.keycloakUserId in :keycloakUserIds or lower(c.email) in :emails")
+    List<CustomerIdentityRow> findIdentityRows(@Param("keycloakUserIds") Collection<String> keycloakUserIds, @Param("emails") Collection<String> emails);
+
+    @Query("select c.id as id, c.keycloakUserId as keycloakUserId, c.email as email, c.name as name, c.lastName as lastName, c.provisioningStatus as provisioningStatus " +
+            "from Customer c where c.keycloakUserId is not null and c.id > :afterId and c.createdAt < :createdBefore order by c.id")
+    List<CustomerIdentityRow> findLinkedIdentityRowsAfter(@Param("afterId") Long afterId, @Param("createdBefore") LocalDateTime createdBefore, Limit limit);
 }
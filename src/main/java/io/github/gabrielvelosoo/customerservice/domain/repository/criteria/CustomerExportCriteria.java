@@ -0,0 +1,9 @@
+package io.github.gabrielvelosoo.customerservice.domain.repository.criteria;
+
+import java.time.LocalDateTime;
+
+public record CustomerExportCriteria(
+        LocalDateTime createdSince,
+        LocalDateTime updatedSince
+    ) {
+}
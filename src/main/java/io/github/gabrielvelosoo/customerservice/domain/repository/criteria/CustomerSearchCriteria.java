@@ -0,0 +1,14 @@
+package io.github.gabrielvelosoo.customerservice.domain.repository.criteria;
+
+import java.time.LocalDateTime;
+
+public record CustomerSearchCriteria(
+        String name,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        String cepPrefix,
+        LocalDateTime beforeCreatedAt,
+        Long beforeId,
+        int limit
+    ) {
+}
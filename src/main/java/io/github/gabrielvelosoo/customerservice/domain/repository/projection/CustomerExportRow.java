@@ -0,0 +1,18 @@
+package io.github.gabrielvelosoo.customerservice.domain.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record CustomerExportRow(
+        long id,
+        String name,
+        String lastName,
+        String email,
+        String cpf,
+        String cep,
+        LocalDate birthDate,
+        String provisioningStatus,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+    ) {
+}
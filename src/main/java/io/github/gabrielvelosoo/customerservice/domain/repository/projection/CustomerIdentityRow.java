@@ -0,0 +1,13 @@
+package io.github.gabrielvelosoo.customerservice.domain.repository.projection;
+
+import io.github.gabrielvelosoo.customerservice.domain.entity.ProvisioningStatus;
+
+public interface CustomerIdentityRow {
+
+    Long getId();
+    String getKeycloakUserId();
+    String getEmail();
+    String getName();
+    String getLastName();
+    ProvisioningStatus getProvisioningStatus();
+}
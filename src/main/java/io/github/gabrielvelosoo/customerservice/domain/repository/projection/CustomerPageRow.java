@@ -0,0 +1,19 @@
+package io.github.gabrielvelosoo.customerservice.domain.repository.projection;
+
+import io.github.gabrielvelosoo.customerservice.domain.entity.ProvisioningStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record CustomerPageRow(
+        Long id,
+        String name,
+        String lastName,
+        String email,
+        String cpf,
+        String cep,
+        LocalDate birthDate,
+        ProvisioningStatus provisioningStatus,
+        LocalDateTime createdAt
+    ) {
+}
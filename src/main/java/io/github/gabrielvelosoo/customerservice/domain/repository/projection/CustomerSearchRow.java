@@ -0,0 +1,9 @@
+package io.github.gabrielvelosoo.customerservice.domain.repository.projection;
+
+public record CustomerSearchRow(
+        Long id,
+        String name,
+        String lastName,
+        String email
+    ) {
+}
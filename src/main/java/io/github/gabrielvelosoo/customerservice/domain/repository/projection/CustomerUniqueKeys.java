@@ -0,0 +1,7 @@
+package io.github.gabrielvelosoo.customerservice.domain.repository.projection;
+
+public interface CustomerUniqueKeys {
+
+    String getEmail();
+    String getCpf();
+}
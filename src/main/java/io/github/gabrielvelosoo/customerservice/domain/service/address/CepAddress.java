@@ -0,0 +1,7 @@
+package io.github.gabrielvelosoo.customerservice.domain.service.address;
+
+public record CepAddress(
+        String city,
+        String state
+    ) {
+}
@@ -0,0 +1,96 @@
+package io.github.gabrielvelosoo.customerservice.domain.service.address;
+
+import io.github.gabrielvelosoo.customerservice.domain.value.Cep;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+public class CepDirectory {
+
+    @Value("${customer.cep-directory.dataset}")
+    private String dataset;
+
+    @Value("${customer.cep-directory.enrich-response}")
+    private boolean enrichResponse;
+
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile CepIndex index;
+    private volatile Instant loadedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if(!isConfigured()) {
+            log.info("CEP directory disabled, no dataset configured");
+            return;
+        }
+        try {
+            reload();
+        } catch(RuntimeException e) {
+            log.error("Could not load CEP directory from {}", dataset, e);
+        }
+    }
+
+    public CepIndex reload() {
+        long start = System.nanoTime();
+        reloadLock.lock();
+        try {
+            CepIndex loaded = CepIndex.open(prepare(Path.of(dataset)));
+            index = loaded;
+            loadedAt = Instant.now();
+            log.info("CEP directory loaded {} ranges for {} localities in {} ms",
+                    loaded.size(), loaded.localityCount(), (System.nanoTime() - start) / 1_000_000);
+            return loaded;
+        } catch(IOException e) {
+            throw new UncheckedIOException("Could not load CEP dataset " + dataset, e);
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private Path prepare(Path source) throws IOException {
+        if(!source.getFileName().toString().endsWith(".csv")) {
+            return source;
+        }
+        Path compiled = source.resolveSibling(source.getFileName().toString().replaceFirst("\\.csv$", ".idx"));
+        if(Files.notExists(compiled) || Files.getLastModifiedTime(compiled).compareTo(Files.getLastModifiedTime(source)) < 0) {
+            CepIndexCompiler.compile(source, compiled);
+        }
+        return compiled;
+    }
+
+    public CepAddress resolve(String cep) {
+        CepIndex index = this.index;
+        if(index == null || cep == null) {
+            return null;
+        }
+        int value = Cep.toInt(cep);
+        return value < 0 ? null : index.find(value);
+    }
+
+    public boolean isKnown(String cep) {
+        return index == null || resolve(cep) != null;
+    }
+
+    public boolean isConfigured() {
+        return !dataset.isBlank();
+    }
+
+    public boolean enrichResponse() {
+        return enrichResponse;
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+}
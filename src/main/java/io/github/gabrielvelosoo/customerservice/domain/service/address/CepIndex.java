@@ -0,0 +1,83 @@
+package io.github.gabrielvelosoo.customerservice.domain.service.address;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public final class CepIndex {
+
+    static final int MAGIC = 0x43455058;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int ENTRY_BYTES = 12;
+
+    private final MappedByteBuffer entries;
+    private final int size;
+    private final CepAddress[] localities;
+
+    private CepIndex(MappedByteBuffer entries, int size, CepAddress[] localities) {
+        this.entries = entries;
+        this.size = size;
+        this.localities = localities;
+    }
+
+    public static CepIndex open(Path file) throws IOException {
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if(buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("Not a CEP index file: " + file);
+            }
+            int size = buffer.getInt(8);
+            int localityCount = buffer.getInt(12);
+            CepAddress[] localities = readLocalities(buffer, HEADER_BYTES + size * ENTRY_BYTES, localityCount);
+            MappedByteBuffer entries = buffer.slice(HEADER_BYTES, size * ENTRY_BYTES);
+            return new CepIndex(entries, size, localities);
+        }
+    }
+
+    private static CepAddress[] readLocalities(ByteBuffer buffer, int offset, int count) {
+        CepAddress[] localities = new CepAddress[count];
+        int position = offset;
+        for(int i = 0; i < count; i++) {
+            byte[] state = new byte[2];
+            buffer.get(position, state);
+            int length = Byte.toUnsignedInt(buffer.get(position + 2));
+            byte[] city = new byte[length];
+            buffer.get(position + 3, city);
+            localities[i] = new CepAddress(new String(city, StandardCharsets.UTF_8), new String(state, StandardCharsets.US_ASCII));
+            position += 3 + length;
+        }
+        return localities;
+    }
+
+    public CepAddress find(int cep) {
+        int low = 0;
+        int high = size - 1;
+        int candidate = -1;
+        while(low <= high) {
+            int middle = (low + high) >>> 1;
+            if(entries.getInt(middle * ENTRY_BYTES) <= cep) {
+                candidate = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        if(candidate < 0 || entries.getInt(candidate * ENTRY_BYTES + 4) < cep) {
+            return null;
+        }
+        return localities[entries.getInt(candidate * ENTRY_BYTES + 8)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int localityCount() {
+        return localities.length;
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.gabrielvelosoo.customerservice.domain.service.address;
+
+import io.github.gabrielvelosoo.customerservice.domain.value.Cep;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class CepIndexCompiler {
+
+    private CepIndexCompiler() {
+    }
+
+    public static void compile(Path dataset, Path target) throws IOException {
+        List<CepAddress> localities = new ArrayList<>();
+        Map<CepAddress, Integer> localityIds = new HashMap<>();
+        List<Range> ranges = new ArrayList<>();
+        try(BufferedReader reader = Files.newBufferedReader(dataset, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while((line = reader.readLine()) != null) {
+                lineNumber++;
+                if(line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(";", -1);
+                if(fields.length != 4) {
+                    throw new IOException("Malformed CEP dataset line " + lineNumber + ": " + line);
+                }
+                int start = Cep.toInt(fields[0].trim());
+                int end = fields[1].isBlank() ? start : Cep.toInt(fields[1].trim());
+                String city = fields[2].trim();
+                String state = fields[3].trim();
+                if(start < 0 || end < start || state.length() != 2 || city.getBytes(StandardCharsets.UTF_8).length > 255) {
+                    throw new IOException("Invalid CEP dataset line " + lineNumber + ": " + line);
+                }
+                CepAddress address = new CepAddress(city, state);
+                int locality = localityIds.computeIfAbsent(address, key -> {
+                    localities.add(key);
+                    return localities.size() - 1;
+                });
+                ranges.add(new Range(start, end, locality));
+            }
+        }
+        List<Range> entries = flatten(ranges);
+        Path temporary = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                write(out, entries, localities);
+            }
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static List<Range> flatten(List<Range> ranges) {
+        ranges.sort(Comparator.comparingInt(Range::start).thenComparing(Comparator.comparingInt(Range::end).reversed()));
+        List<Range> segments = new ArrayList<>(ranges.size());
+        Deque<Range> open = new ArrayDeque<>();
+        int cursor = 0;
+        for(Range range : ranges) {
+            while(!open.isEmpty() && open.peek().end() < range.start()) {
+                Range closed = open.pop();
+                cursor = emit(segments, cursor, closed.end(), closed.locality());
+            }
+            if(!open.isEmpty() && cursor < range.start()) {
+                emit(segments, cursor, range.start() - 1, open.peek().locality());
+            }
+            open.push(range);
+            cursor = range.start();
+        }
+        while(!open.isEmpty()) {
+            Range closed = open.pop();
+            cursor = emit(segments, cursor, closed.end(), closed.locality());
+        }
+        return segments;
+    }
+
+    private static int emit(List<Range> segments, int start, int end, int locality) {
+        if(start > end) {
+            return start;
+        }
+        Range last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if(last != null && last.locality() == locality && last.end() + 1 == start) {
+            segments.set(segments.size() - 1, new Range(last.start(), end, locality));
+        } else {
+            segments.add(new Range(start, end, locality));
+        }
+        return end + 1;
+    }
+
+    private static void write(DataOutputStream out, List<Range> entries, List<CepAddress> localities) throws IOException {
+        out.writeInt(CepIndex.MAGIC);
+        out.writeInt(CepIndex.VERSION);
+        out.writeInt(entries.size());
+        out.writeInt(localities.size());
+        for(Range entry : entries) {
+            out.writeInt(entry.start());
+            out.writeInt(entry.end());
+            out.writeInt(entry.locality());
+        }
+        for(CepAddress locality : localities) {
+            byte[] city = locality.city().getBytes(StandardCharsets.UTF_8);
+            out.write(locality.state().getBytes(StandardCharsets.US_ASCII));
+            out.writeByte(city.length);
+            out.write(city);
+        }
+    }
+
+    private record Range(int start, int end, int locality) {
+    }
+}
@@ -1,8 +1,14 @@
 package io.github.gabrielvelosoo.customerservice.domain.service.auth;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface IdentityProvider {
 
+    Optional<String> findUserId(String email);
     String createUser(String email, String password, String name, String lastName);
     void assignRole(String userId, String role);
     void editUser(String userId, String name, String lastName);
+    List<IdentityUser> listCustomerUsers(int first, int max);
+    void deleteUser(String userId);
 }
@@ -0,0 +1,12 @@
+package io.github.gabrielvelosoo.customerservice.domain.service.auth;
+
+import java.time.Instant;
+
+public record IdentityUser(
+        String id,
+        String email,
+        String firstName,
+        String lastName,
+        Instant createdAt
+    ) {
+}
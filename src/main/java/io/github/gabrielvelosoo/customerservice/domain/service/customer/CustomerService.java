@@ -2,9 +2,12 @@ package io.github.gabrielvelosoo.customerservice.domain.service.customer;
 
 import io.github.gabrielvelosoo.customerservice.domain.entity.Customer;
 
+import java.util.List;
+
 public interface CustomerService {
 
     Customer create(Customer customer);
+    List<Customer> createAll(List<Customer> customers);
     Customer findById(Long id);
     Customer edit(Customer customer);
 }
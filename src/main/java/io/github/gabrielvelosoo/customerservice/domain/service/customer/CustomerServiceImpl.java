@@ -1,20 +1,54 @@
 package io.github.gabrielvelosoo.customerservice.domain.service.customer;
 
 import io.github.gabrielvelosoo.customerservice.domain.entity.Customer;
+import io.github.gabrielvelosoo.customerservice.domain.entity.CustomerEventType;
 import io.github.gabrielvelosoo.customerservice.domain.repository.CustomerRepository;
+import io.github.gabrielvelosoo.customerservice.domain.service.duplicate.CustomerDuplicateScreen;
+import io.github.gabrielvelosoo.customerservice.domain.service.event.CustomerEventService;
+import io.github.gabrielvelosoo.customerservice.domain.service.search.CustomerSearchIndex;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.DuplicateRecordException;
 import io.github.gabrielvelosoo.customerservice.infrastructure.exception.RecordNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class CustomerServiceImpl implements CustomerService {
 
     private final CustomerRepository customerRepository;
+    private final CustomerDuplicateScreen customerDuplicateScreen;
+    private final CustomerEventService customerEventService;
+    private final CustomerSearchIndex customerSearchIndex;
 
     @Override
+    @Transactional
     public Customer create(Customer customer) {
-        return customerRepository.save(customer);
+        Customer savedCustomer = saveAndFlush(customer);
+        customerEventService.append(savedCustomer, CustomerEventType.CUSTOMER_CREATED);
+        customerDuplicateScreen.register(savedCustomer.getEmail(), savedCustomer.getCpf());
+        customerSearchIndex.index(savedCustomer);
+        return savedCustomer;
+    }
+
+    @Override
+    @Transactional
+    public List<Customer> createAll(List<Customer> customers) {
+        List<Customer> savedCustomers;
+        try {
+            savedCustomers = customerRepository.saveAllAndFlush(customers);
+        } catch(DataIntegrityViolationException e) {
+            throw new DuplicateRecordException("Email or CPF already registered");
+        }
+        for(Customer savedCustomer : savedCustomers) {
+            customerEventService.append(savedCustomer, CustomerEventType.CUSTOMER_CREATED);
+            customerDuplicateScreen.register(savedCustomer.getEmail(), savedCustomer.getCpf());
+            customerSearchIndex.index(savedCustomer);
+        }
+        return savedCustomers;
     }
 
     @Override
@@ -24,7 +58,20 @@ public class CustomerServiceImpl implements CustomerService {
     }
 
     @Override
+    @Transactional
     public Customer edit(Customer customer) {
-        return customerRepository.save(customer);
+        Customer editedCustomer = saveAndFlush(customer);
+        customerEventService.append(editedCustomer, CustomerEventType.CUSTOMER_UPDATED);
+        customerDuplicateScreen.register(editedCustomer.getEmail(), editedCustomer.getCpf());
+        customerSearchIndex.index(editedCustomer);
+        return editedCustomer;
+    }
+
+    private Customer saveAndFlush(Customer customer) {
+        try {
+            return customerRepository.saveAndFlush(customer);
+        } catch(DataIntegrityViolationException e) {
+            throw new DuplicateRecordException("Email or CPF already registered");
+        }
     }
 }
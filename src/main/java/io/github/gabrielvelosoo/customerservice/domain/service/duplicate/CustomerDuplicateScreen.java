@@ -0,0 +1,87 @@
+package io.github.gabrielvelosoo.customerservice.domain.service.duplicate;
+
+import io.github.gabrielvelosoo.customerservice.domain.repository.CustomerRepository;
+import io.github.gabrielvelosoo.customerservice.domain.repository.projection.CustomerUniqueKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerDuplicateScreen {
+
+    private final CustomerRepository customerRepository;
+
+    @Value("${customer.duplicate-screen.expected-insertions}")
+    private long expectedInsertions;
+
+    @Value("${customer.duplicate-screen.false-positive-probability}")
+    private double falsePositiveProbability;
+
+    @Value("${customer.duplicate-screen.refresh-overlap}")
+    private Duration refreshOverlap;
+
+    private volatile BloomFilter emails;
+    private volatile BloomFilter cpfs;
+    private volatile boolean ready;
+    private volatile LocalDateTime refreshedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        LocalDateTime loadStartedAt = LocalDateTime.now();
+        emails = new BloomFilter(expectedInsertions, falsePositiveProbability);
+        cpfs = new BloomFilter(expectedInsertions, falsePositiveProbability);
+        long count = 0;
+        try(Stream<CustomerUniqueKeys> keys = customerRepository.streamUniqueKeys()) {
+            for(CustomerUniqueKeys key : (Iterable<CustomerUniqueKeys>) keys::iterator) {
+                register(key.getEmail(), key.getCpf());
+                count++;
+            }
+        }
+        refreshedAt = loadStartedAt;
+        ready = true;
+        log.info("Duplicate screen loaded with {} customers", count);
+    }
+
+    @Scheduled(fixedDelayString = "${customer.duplicate-screen.refresh-interval}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        if(!ready) {
+            return;
+        }
+        LocalDateTime refreshStartedAt = LocalDateTime.now();
+        try(Stream<CustomerUniqueKeys> keys = customerRepository.streamUniqueKeysUpdatedSince(refreshedAt.minus(refreshOverlap))) {
+            keys.forEach(key -> register(key.getEmail(), key.getCpf()));
+        }
+        refreshedAt = refreshStartedAt;
+    }
+
+    public boolean mightContainEmail(String email) {
+        return !ready || emails.mightContain(email);
+    }
+
+    public boolean mightContainCpf(String cpf) {
+        return !ready || cpfs.mightContain(cpf);
+    }
+
+    public void register(String email, String cpf) {
+        BloomFilter emails = this.emails;
+        BloomFilter cpfs = this.cpfs;
+        if(emails == null || cpfs == null) {
+            return;
+        }
+        emails.put(email);
+        cpfs.put(cpf);
+    }
+}
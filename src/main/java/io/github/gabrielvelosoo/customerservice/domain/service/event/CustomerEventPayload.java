@@ -0,0 +1,20 @@
+package io.github.gabrielvelosoo.customerservice.domain.service.event;
+
+import io.github.gabrielvelosoo.customerservice.domain.entity.ProvisioningStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record CustomerEventPayload(
+        Long id,
+        String name,
+        String lastName,
+        String email,
+        String cpf,
+        String cep,
+        LocalDate birthDate,
+        ProvisioningStatus provisioningStatus,
+        Long version,
+        LocalDateTime updatedAt
+    ) {
+}
@@ -0,0 +1,10 @@
+package io.github.gabrielvelosoo.customerservice.domain.service.event;
+
+import io.github.gabrielvelosoo.customerservice.domain.entity.CustomerEvent;
+
+import java.util.List;
+
+public interface CustomerEventPublisher {
+
+    void publish(List<CustomerEvent> events);
+}
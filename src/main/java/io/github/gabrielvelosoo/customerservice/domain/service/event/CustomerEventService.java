@@ -0,0 +1,14 @@
+package io.github.gabrielvelosoo.customerservice.domain.service.event;
+
+import io.github.gabrielvelosoo.customerservice.domain.entity.Customer;
+import io.github.gabrielvelosoo.customerservice.domain.entity.CustomerEvent;
+import io.github.gabrielvelosoo.customerservice.domain.entity.CustomerEventType;
+
+import java.util.List;
+
+public interface CustomerEventService {
+
+    void append(Customer customer, CustomerEventType type);
+    int publishPending(int batchSize);
+    List<CustomerEvent> findPublishedAfter(long after, int limit);
+}
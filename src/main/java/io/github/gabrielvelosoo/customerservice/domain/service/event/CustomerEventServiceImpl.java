@@ -0,0 +1,81 @@
+package io.github.gabrielvelosoo.customerservice.domain.service.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.gabrielvelosoo.customerservice.domain.entity.Customer;
+import io.github.gabrielvelosoo.customerservice.domain.entity.CustomerEvent;
+import io.github.gabrielvelosoo.customerservice.domain.entity.CustomerEventType;
+import io.github.gabrielvelosoo.customerservice.domain.repository.CustomerEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CustomerEventServiceImpl implements CustomerEventService {
+
+    private final CustomerEventRepository customerEventRepository;
+    private final List<CustomerEventPublisher> publishers;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Customer customer, CustomerEventType type) {
+        CustomerEvent event = new CustomerEvent();
+        event.setType(type);
+        event.setCustomerId(customer.getId());
+        event.setCustomerVersion(customer.getVersion());
+        event.setPayload(serialize(customer));
+        customerEventRepository.save(event);
+    }
+
+    @Override
+    @Transactional
+    public int publishPending(int batchSize) {
+        List<CustomerEvent> events = customerEventRepository.findUnpublished(Limit.of(batchSize));
+        if(events.isEmpty()) {
+            return 0;
+        }
+        long sequence = customerEventRepository.findLastSequence();
+        LocalDateTime now = LocalDateTime.now();
+        for(CustomerEvent event : events) {
+            event.setSequence(++sequence);
+            event.setPublishedAt(now);
+        }
+        customerEventRepository.flush();
+        for(CustomerEventPublisher publisher : publishers) {
+            publisher.publish(events);
+        }
+        return events.size();
+    }
+
+    @Override
+    public List<CustomerEvent> findPublishedAfter(long after, int limit) {
+        return customerEventRepository.findPublishedAfter(after, Limit.of(limit));
+    }
+
+    private String serialize(Customer customer) {
+        CustomerEventPayload payload = new CustomerEventPayload(
+                customer.getId(),
+                customer.getName(),
+                customer.getLastName(),
+                customer.getEmail(),
+                customer.getCpf(),
+                customer.getCep(),
+                customer.getBirthDate(),
+                customer.getProvisioningStatus(),
+                customer.getVersion(),
+                customer.getUpdatedAt()
+        );
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch(JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize customer event", e);
+        }
+    }
+}
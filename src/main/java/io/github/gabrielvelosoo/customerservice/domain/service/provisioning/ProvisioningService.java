@@ -0,0 +1,16 @@
+package io.github.gabrielvelosoo.customerservice.domain.service.provisioning;
+
+import io.github.gabrielvelosoo.customerservice.domain.entity.Customer;
+import io.github.gabrielvelosoo.customerservice.domain.entity.ProvisioningTask;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProvisioningService {
+
+    Customer enqueue(Customer customer, String password);
+    List<ProvisioningTask> claimDue(int limit, LocalDateTime leaseUntil);
+    void complete(ProvisioningTask task, String keycloakUserId);
+    void retry(ProvisioningTask task, String error, LocalDateTime nextAttemptAt);
+    void abandon(ProvisioningTask task);
+}
@@ -0,0 +1,88 @@
+package io.github.gabrielvelosoo.customerservice.domain.service.provisioning;
+
+import io.github.gabrielvelosoo.customerservice.domain.entity.Customer;
+import io.github.gabrielvelosoo.customerservice.domain.entity.ProvisioningStatus;
+import io.github.gabrielvelosoo.customerservice.domain.entity.ProvisioningTask;
+import io.github.gabrielvelosoo.customerservice.domain.repository.ProvisioningTaskRepository;
+import io.github.gabrielvelosoo.customerservice.domain.service.customer.CustomerService;
+import io.github.gabrielvelosoo.customerservice.infrastructure.security.crypto.CredentialCipher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ProvisioningServiceImpl implements ProvisioningService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final CustomerService customerService;
+    private final ProvisioningTaskRepository provisioningTaskRepository;
+    private final CredentialCipher credentialCipher;
+
+    @Override
+    @Transactional
+    public Customer enqueue(Customer customer, String password) {
+        customer.setProvisioningStatus(ProvisioningStatus.PENDING);
+        Customer savedCustomer = customerService.create(customer);
+        ProvisioningTask task = new ProvisioningTask();
+        task.setCustomerId(savedCustomer.getId());
+        task.setEmail(savedCustomer.getEmail());
+        task.setEncryptedPassword(credentialCipher.encrypt(password, String.valueOf(savedCustomer.getId())));
+        task.setName(savedCustomer.getName());
+        task.setLastName(savedCustomer.getLastName());
+        task.setAttempts(0);
+        task.setNextAttemptAt(LocalDateTime.now());
+        provisioningTaskRepository.save(task);
+        return savedCustomer;
+    }
+
+    @Override
+    @Transactional
+    public List<ProvisioningTask> claimDue(int limit, LocalDateTime leaseUntil) {
+        List<ProvisioningTask> tasks = provisioningTaskRepository.findDueForUpdate(LocalDateTime.now(), Limit.of(limit));
+        for(ProvisioningTask task : tasks) {
+            task.setNextAttemptAt(leaseUntil);
+        }
+        return tasks;
+    }
+
+    @Override
+    @Transactional
+    public void complete(ProvisioningTask task, String keycloakUserId) {
+        Customer customer = customerService.findById(task.getCustomerId());
+        customer.setKeycloakUserId(keycloakUserId);
+        customer.setProvisioningStatus(ProvisioningStatus.PROVISIONED);
+        customerService.edit(customer);
+        provisioningTaskRepository.deleteById(task.getId());
+    }
+
+    @Override
+    @Transactional
+    public void retry(ProvisioningTask task, String error, LocalDateTime nextAttemptAt) {
+        task.setAttempts(task.getAttempts() + 1);
+        task.setLastError(truncate(error));
+        task.setNextAttemptAt(nextAttemptAt);
+        provisioningTaskRepository.save(task);
+    }
+
+    @Override
+    @Transactional
+    public void abandon(ProvisioningTask task) {
+        Customer customer = customerService.findById(task.getCustomerId());
+        customer.setProvisioningStatus(ProvisioningStatus.FAILED);
+        customerService.edit(customer);
+        provisioningTaskRepository.deleteById(task.getId());
+    }
+
+    private String truncate(String error) {
+        if(error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
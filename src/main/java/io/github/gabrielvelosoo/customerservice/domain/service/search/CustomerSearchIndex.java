@@ -0,0 +1,134 @@
+package io.github.gabrielvelosoo.customerservice.domain.service.search;
+
+import io.github.gabrielvelosoo.customerservice.domain.entity.Customer;
+import io.github.gabrielvelosoo.customerservice.domain.repository.CustomerRepository;
+import io.github.gabrielvelosoo.customerservice.domain.repository.projection.CustomerSearchRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerSearchIndex {
+
+    private static final int COMPACTION_BATCH_SIZE = 4096;
+
+    private final CustomerRepository customerRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private TrigramIndex index = new TrigramIndex();
+    private List<PendingPut> pendingPuts;
+    private volatile boolean ready;
+
+    @Value("${customer.search.max-candidates}")
+    private int maxCandidates;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long start = System.nanoTime();
+        long count = 0;
+        try(Stream<CustomerSearchRow> rows = customerRepository.streamSearchRows()) {
+            for(CustomerSearchRow row : (Iterable<CustomerSearchRow>) rows::iterator) {
+                put(row.id(), row.name(), row.lastName(), row.email(), false);
+                count++;
+            }
+        }
+        ready = true;
+        log.info("Search index loaded with {} customers in {} ms", count, Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    public void index(Customer customer) {
+        put(customer.getId(), customer.getName(), customer.getLastName(), customer.getEmail(), true);
+    }
+
+    public long[] search(byte[][] tokens, int limit) {
+        lock.readLock().lock();
+        try {
+            return index.search(tokens, limit, maxCandidates);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void put(long customerId, String name, String lastName, String email, boolean replace) {
+        byte[] document = SearchText.document(name, lastName, email);
+        boolean startCompaction = false;
+        lock.writeLock().lock();
+        try {
+            if(!replace && index.contains(customerId)) {
+                return;
+            }
+            index.put(customerId, document);
+            if(pendingPuts != null) {
+                pendingPuts.add(new PendingPut(customerId, document));
+            } else if(index.needsCompaction()) {
+                pendingPuts = new ArrayList<>();
+                startCompaction = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if(startCompaction) {
+            Thread.ofVirtual().name("search-index-compaction").start(this::compact);
+        }
+    }
+
+    private void compact() {
+        long start = System.nanoTime();
+        TrigramIndex compacted = new TrigramIndex();
+        TrigramIndex source;
+        int documentCount;
+        lock.readLock().lock();
+        try {
+            source = index;
+            documentCount = source.documentCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+        try {
+            for(int doc = 0; doc < documentCount; doc += COMPACTION_BATCH_SIZE) {
+                lock.readLock().lock();
+                try {
+                    source.copyLiveDocuments(compacted, doc, Math.min(doc + COMPACTION_BATCH_SIZE, documentCount));
+                } finally {
+                    lock.readLock().unlock();
+                }
+            }
+        } catch(RuntimeException e) {
+            log.error("Search index compaction failed", e);
+            compacted = null;
+        }
+        lock.writeLock().lock();
+        try {
+            if(compacted != null) {
+                for(PendingPut put : pendingPuts) {
+                    compacted.put(put.customerId(), put.document());
+                }
+                index = compacted;
+                log.debug("Search index compacted in {} ms", Duration.ofNanos(System.nanoTime() - start).toMillis());
+            }
+            pendingPuts = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record PendingPut(long customerId, byte[] document) {
+    }
+}
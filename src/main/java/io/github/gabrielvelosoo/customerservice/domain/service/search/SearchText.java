@@ -0,0 +1,87 @@
+package io.github.gabrielvelosoo.customerservice.domain.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class SearchText {
+
+    public static final int ALPHABET_SIZE = 37;
+    static final byte SEPARATOR = 0;
+
+    private static final String LATIN1_UPPER = "aaaaaaaceeeeiiiidnooooo ouuuuy s";
+    private static final String LATIN1_LOWER = "aaaaaaaceeeeiiiidnooooo ouuuuy y";
+
+    private SearchText() {
+    }
+
+    public static byte[] document(String... fields) {
+        byte[] buffer = new byte[capacity(fields)];
+        int length = 0;
+        buffer[length++] = SEPARATOR;
+        for(String field : fields) {
+            length = append(field, buffer, length);
+        }
+        return Arrays.copyOf(buffer, length);
+    }
+
+    public static byte[][] tokens(String query) {
+        byte[] symbols = document(query);
+        List<byte[]> tokens = new ArrayList<>();
+        int start = 1;
+        for(int i = 1; i < symbols.length; i++) {
+            if(symbols[i] == SEPARATOR) {
+                tokens.add(Arrays.copyOfRange(symbols, start, i));
+                start = i + 1;
+            }
+        }
+        return tokens.toArray(new byte[0][]);
+    }
+
+    static int symbol(char c) {
+        if(c >= 'a' && c <= 'z') {
+            return c - 'a' + 1;
+        }
+        if(c >= 'A' && c <= 'Z') {
+            return c - 'A' + 1;
+        }
+        if(c >= '0' && c <= '9') {
+            return c - '0' + 27;
+        }
+        if(c >= '\u00c0' && c <= '\u00df') {
+            return symbol(LATIN1_UPPER.charAt(c - '\u00c0'));
+        }
+        if(c >= '\u00e0' && c <= '\u00ff') {
+            return symbol(LATIN1_LOWER.charAt(c - '\u00e0'));
+        }
+        return SEPARATOR;
+    }
+
+    private static int append(String field, byte[] buffer, int length) {
+        if(field == null) {
+            return length;
+        }
+        for(int i = 0; i < field.length(); i++) {
+            int symbol = symbol(field.charAt(i));
+            if(symbol != SEPARATOR) {
+                buffer[length++] = (byte) symbol;
+            } else if(buffer[length - 1] != SEPARATOR) {
+                buffer[length++] = SEPARATOR;
+            }
+        }
+        if(buffer[length - 1] != SEPARATOR) {
+            buffer[length++] = SEPARATOR;
+        }
+        return length;
+    }
+
+    private static int capacity(String... fields) {
+        int capacity = 1;
+        for(String field : fields) {
+            if(field != null) {
+                capacity += field.length() + 1;
+            }
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,302 @@
+package io.github.gabrielvelosoo.customerservice.domain.service.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+public class TrigramIndex {
+
+    private static final int GRAM_COUNT = SearchText.ALPHABET_SIZE * SearchText.ALPHABET_SIZE * SearchText.ALPHABET_SIZE;
+    private static final int INDEXED_GRAMS_PER_TOKEN = 6;
+    private static final int[] EMPTY = new int[0];
+
+    private final int[][] postings = new int[GRAM_COUNT][];
+    private final int[] postingSizes = new int[GRAM_COUNT];
+    private final BitSet deleted = new BitSet();
+    private long[] customerIds = new long[1024];
+    private int[] textStarts = new int[1025];
+    private byte[] text = new byte[64 * 1024];
+    private long[] slotKeys = new long[2048];
+    private int[] slotDocs = new int[2048];
+    private int docCount;
+    private int deletedCount;
+    private int customerCount;
+    private int[] scratch = new int[64];
+
+    public boolean put(long customerId, byte[] document) {
+        int slot = slot(customerId);
+        int previous = slotDocs[slot] - 1;
+        if(previous >= 0 && sameText(previous, document)) {
+            return false;
+        }
+        if(previous >= 0) {
+            deleted.set(previous);
+            deletedCount++;
+        } else {
+            customerCount++;
+        }
+        int doc = append(customerId, document);
+        slotKeys[slot] = customerId;
+        slotDocs[slot] = doc + 1;
+        if(customerCount * 2 > slotKeys.length) {
+            rehash();
+        }
+        return true;
+    }
+
+    public boolean contains(long customerId) {
+        return slotDocs[slot(customerId)] != 0;
+    }
+
+    public int size() {
+        return customerCount;
+    }
+
+    public boolean needsCompaction() {
+        return deletedCount > 1024 && deletedCount * 2 > docCount;
+    }
+
+    public int documentCount() {
+        return docCount;
+    }
+
+    public TrigramIndex compact() {
+        TrigramIndex compacted = new TrigramIndex();
+        copyLiveDocuments(compacted, 0, docCount);
+        return compacted;
+    }
+
+    public void copyLiveDocuments(TrigramIndex target, int fromDoc, int toDoc) {
+        for(int doc = fromDoc; doc < toDoc; doc++) {
+            if(!deleted.get(doc)) {
+                target.put(customerIds[doc], Arrays.copyOfRange(text, textStarts[doc], textStarts[doc + 1]));
+            }
+        }
+    }
+
+    public long[] search(byte[][] tokens, int limit, int maxCandidates) {
+        int[] grams = queryGrams(tokens);
+        if(grams.length == 0) {
+            return new long[0];
+        }
+        int[] topDocs = new int[limit];
+        int[] topScores = new int[limit];
+        int found = 0;
+        int perfectScore = tokens.length * 3;
+        int[] cursors = new int[grams.length];
+        for(int i = 0; i < grams.length; i++) {
+            cursors[i] = postingSizes[grams[i]] - 1;
+        }
+        int[] rarest = postings[grams[0]];
+        int last = cursors[0];
+        for(int i = last; i >= 0 && last - i < maxCandidates; i--) {
+            if(found == limit && topScores[found - 1] == perfectScore) {
+                break;
+            }
+            int doc = rarest[i];
+            if(deleted.get(doc) || !inAll(doc, grams, cursors)) {
+                continue;
+            }
+            int score = score(doc, tokens);
+            if(score == 0 || (found == limit && score <= topScores[found - 1])) {
+                continue;
+            }
+            int position = found < limit ? found++ : found - 1;
+            while(position > 0 && topScores[position - 1] < score) {
+                topScores[position] = topScores[position - 1];
+                topDocs[position] = topDocs[position - 1];
+                position--;
+            }
+            topScores[position] = score;
+            topDocs[position] = doc;
+        }
+        long[] result = new long[found];
+        for(int i = 0; i < found; i++) {
+            result[i] = customerIds[topDocs[i]];
+        }
+        return result;
+    }
+
+    private int[] queryGrams(byte[][] tokens) {
+        int count = 0;
+        int[] grams = new int[tokens.length * INDEXED_GRAMS_PER_TOKEN];
+        for(byte[] token : tokens) {
+            byte previous = SearchText.SEPARATOR;
+            for(int i = 0; i + 1 < token.length && i < INDEXED_GRAMS_PER_TOKEN; i++) {
+                grams[count++] = gram(previous, token[i], token[i + 1]);
+                previous = token[i];
+            }
+        }
+        int distinct = 0;
+        for(int i = 0; i < count; i++) {
+            if(postingSizes[grams[i]] == 0) {
+                return EMPTY;
+            }
+            if(!contains(grams, distinct, grams[i])) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        for(int i = 1; i < distinct; i++) {
+            int gram = grams[i];
+            int position = i;
+            while(position > 0 && postingSizes[grams[position - 1]] > postingSizes[gram]) {
+                grams[position] = grams[position - 1];
+                position--;
+            }
+            grams[position] = gram;
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for(int i = 0; i < length; i++) {
+            if(values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean inAll(int doc, int[] grams, int[] cursors) {
+        for(int i = 1; i < grams.length; i++) {
+            int[] list = postings[grams[i]];
+            int cursor = seek(list, cursors[i], doc);
+            cursors[i] = cursor;
+            if(cursor < 0 || list[cursor] != doc) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int seek(int[] list, int cursor, int doc) {
+        if(cursor < 0 || list[cursor] <= doc) {
+            return cursor;
+        }
+        int step = 1;
+        int high = cursor;
+        int low = cursor - step;
+        while(low >= 0 && list[low] > doc) {
+            high = low;
+            step <<= 1;
+            low = cursor - step;
+        }
+        low = Math.max(low, 0);
+        while(low < high) {
+            int middle = (low + high) >>> 1;
+            if(list[middle] > doc) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return list[low] <= doc ? low : low - 1;
+    }
+
+    private int score(int doc, byte[][] tokens) {
+        int score = 0;
+        for(byte[] token : tokens) {
+            int best = 0;
+            int end = textStarts[doc + 1];
+            for(int start = textStarts[doc] + 1; start < end && best < 3; ) {
+                int tokenEnd = start;
+                while(tokenEnd < end && text[tokenEnd] != SearchText.SEPARATOR) {
+                    tokenEnd++;
+                }
+                int length = tokenEnd - start;
+                if(length >= token.length && Arrays.equals(text, start, start + token.length, token, 0, token.length)) {
+                    best = Math.max(best, length == token.length ? 3 : 2);
+                }
+                start = tokenEnd + 1;
+            }
+            if(best == 0) {
+                return 0;
+            }
+            score += best;
+        }
+        return score;
+    }
+
+    private int append(long customerId, byte[] document) {
+        int doc = docCount++;
+        if(doc == customerIds.length) {
+            customerIds = Arrays.copyOf(customerIds, doc * 2);
+            textStarts = Arrays.copyOf(textStarts, doc * 2 + 1);
+        }
+        int start = textStarts[doc];
+        if(start + document.length > text.length) {
+            text = Arrays.copyOf(text, Math.max(start + document.length, text.length * 2));
+        }
+        System.arraycopy(document, 0, text, start, document.length);
+        customerIds[doc] = customerId;
+        textStarts[doc + 1] = start + document.length;
+        int gramCount = grams(document);
+        for(int i = 0; i < gramCount; i++) {
+            if(i > 0 && scratch[i] == scratch[i - 1]) {
+                continue;
+            }
+            addPosting(scratch[i], doc);
+        }
+        return doc;
+    }
+
+    private int grams(byte[] document) {
+        int count = 0;
+        int tokenPosition = 0;
+        for(int i = 0; i + 2 < document.length; i++) {
+            tokenPosition = document[i] == SearchText.SEPARATOR ? 0 : tokenPosition + 1;
+            if(document[i + 1] == SearchText.SEPARATOR || tokenPosition >= INDEXED_GRAMS_PER_TOKEN) {
+                continue;
+            }
+            if(count == scratch.length) {
+                scratch = Arrays.copyOf(scratch, count * 2);
+            }
+            scratch[count++] = gram(document[i], document[i + 1], document[i + 2]);
+        }
+        Arrays.sort(scratch, 0, count);
+        return count;
+    }
+
+    private void addPosting(int gram, int doc) {
+        int[] list = postings[gram];
+        int size = postingSizes[gram];
+        if(list == null) {
+            list = new int[4];
+        } else if(size == list.length) {
+            list = Arrays.copyOf(list, size + (size >> 1) + 1);
+        }
+        list[size] = doc;
+        postings[gram] = list;
+        postingSizes[gram] = size + 1;
+    }
+
+    private boolean sameText(int doc, byte[] document) {
+        return Arrays.equals(text, textStarts[doc], textStarts[doc + 1], document, 0, document.length);
+    }
+
+    private int slot(long customerId) {
+        int mask = slotKeys.length - 1;
+        int slot = Long.hashCode(customerId * 0x9E3779B97F4A7C15L) & mask;
+        while(slotDocs[slot] != 0 && slotKeys[slot] != customerId) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash() {
+        long[] oldKeys = slotKeys;
+        int[] oldDocs = slotDocs;
+        slotKeys = new long[oldKeys.length * 2];
+        slotDocs = new int[oldDocs.length * 2];
+        for(int i = 0; i < oldKeys.length; i++) {
+            if(oldDocs[i] != 0) {
+                int slot = slot(oldKeys[i]);
+                slotKeys[slot] = oldKeys[i];
+                slotDocs[slot] = oldDocs[i];
+            }
+        }
+    }
+
+    private static int gram(int first, int second, int third) {
+        return (first * SearchText.ALPHABET_SIZE + second) * SearchText.ALPHABET_SIZE + third;
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.gabrielvelosoo.customerservice.domain.value;
+
+public final class Cep {
+
+    public static final int LENGTH = 8;
+    public static final int MAX_VALUE = 99_999_999;
+
+    private Cep() {
+    }
+
+    public static boolean isValid(CharSequence value) {
+        return value != null && toInt(value) > 0;
+    }
+
+    public static String normalize(String value) {
+        if(value == null || isCanonical(value)) {
+            return value;
+        }
+        int parsed = toInt(value);
+        return parsed < 0 ? value : format(parsed);
+    }
+
+    public static int toInt(CharSequence value) {
+        int result = 0;
+        int count = 0;
+        for(int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if(c == '.' || c == '-') {
+                continue;
+            }
+            if(c < '0' || c > '9' || count == LENGTH) {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+            count++;
+        }
+        return count == LENGTH ? result : -1;
+    }
+
+    public static String format(int value) {
+        if(value < 0 || value > MAX_VALUE) {
+            throw new IllegalArgumentException("CEP out of range: " + value);
+        }
+        char[] digits = new char[LENGTH];
+        for(int i = LENGTH - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return new String(digits);
+    }
+
+    private static boolean isCanonical(String value) {
+        if(value.length() != LENGTH) {
+            return false;
+        }
+        for(int i = 0; i < LENGTH; i++) {
+            char c = value.charAt(i);
+            if(c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
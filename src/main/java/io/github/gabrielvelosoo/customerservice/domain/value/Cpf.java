@@ -0,0 +1,104 @@
+package io.github.gabrielvelosoo.customerservice.domain.value;
+
+public final class Cpf {
+
+    public static final int LENGTH = 11;
+    private static final long MAX_VALUE = 99_999_999_999L;
+
+    private Cpf() {
+    }
+
+    public static boolean isValid(CharSequence value) {
+        if(value == null) {
+            return false;
+        }
+        int count = 0;
+        int first = -1;
+        int firstSum = 0;
+        int secondSum = 0;
+        boolean repeated = true;
+        for(int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if(c == '.' || c == '-') {
+                continue;
+            }
+            if(c < '0' || c > '9' || count == LENGTH) {
+                return false;
+            }
+            int digit = c - '0';
+            if(count == 0) {
+                first = digit;
+            } else if(digit != first) {
+                repeated = false;
+            }
+            if(count < 9) {
+                firstSum += digit * (10 - count);
+                secondSum += digit * (11 - count);
+            } else if(count == 9) {
+                if(digit != checkDigit(firstSum)) {
+                    return false;
+                }
+                secondSum += digit * 2;
+            } else if(digit != checkDigit(secondSum)) {
+                return false;
+            }
+            count++;
+        }
+        return count == LENGTH && !repeated;
+    }
+
+    public static String normalize(String value) {
+        if(value == null || isCanonical(value)) {
+            return value;
+        }
+        long parsed = toLong(value);
+        return parsed < 0 ? value : format(parsed);
+    }
+
+    public static long toLong(CharSequence value) {
+        long result = 0;
+        int count = 0;
+        for(int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if(c == '.' || c == '-') {
+                continue;
+            }
+            if(c < '0' || c > '9' || count == LENGTH) {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+            count++;
+        }
+        return count == LENGTH ? result : -1;
+    }
+
+    public static String format(long value) {
+        if(value < 0 || value > MAX_VALUE) {
+            throw new IllegalArgumentException("CPF out of range: " + value);
+        }
+        char[] digits = new char[LENGTH];
+        for(int i = LENGTH - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return new String(digits);
+    }
+
+    private static boolean isCanonical(String value) {
+        if(value.length() != LENGTH) {
+            return false;
+        }
+        for(int i = 0; i < LENGTH; i++) {
+            char c = value.charAt(i);
+            if(c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int checkDigit(int sum) {
+        int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+}
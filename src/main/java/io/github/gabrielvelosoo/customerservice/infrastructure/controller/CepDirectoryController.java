@@ -0,0 +1,23 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.controller;
+
+import io.github.gabrielvelosoo.customerservice.application.dto.CepDirectoryStatusDTO;
+import io.github.gabrielvelosoo.customerservice.application.usecase.CepDirectoryUseCase;
+import io.github.gabrielvelosoo.customerservice.infrastructure.security.config.AdminOnly;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@AdminOnly
+@RestController
+@RequestMapping(value = "/api/v1/admin/cep-directory")
+@RequiredArgsConstructor
+public class CepDirectoryController {
+
+    private final CepDirectoryUseCase cepDirectoryUseCase;
+
+    @PostMapping("/reload")
+    public ResponseEntity<CepDirectoryStatusDTO> reload() {
+        CepDirectoryStatusDTO cepDirectoryStatusDTO = cepDirectoryUseCase.reload();
+        return ResponseEntity.ok(cepDirectoryStatusDTO);
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.controller;
+
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerChangesDTO;
+import io.github.gabrielvelosoo.customerservice.infrastructure.events.CustomerChangeStreams;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.InvalidRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping(value = "/api/v1/customers/changes")
+@RequiredArgsConstructor
+public class CustomerChangeController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final CustomerChangeStreams customerChangeStreams;
+
+    @Value("${customer.events.max-wait}")
+    private Duration maxWait;
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public DeferredResult<CustomerChangesDTO> poll(@RequestParam(name = "after", defaultValue = "0") long after,
+                                                   @RequestParam(name = "limit", defaultValue = "100") int limit,
+                                                   @RequestParam(name = "waitSeconds", defaultValue = "30") int waitSeconds
+    ) {
+        validateCursor(after, limit);
+        if(waitSeconds < 0 || waitSeconds > maxWait.toSeconds()) {
+            throw new InvalidRequestException("waitSeconds must be between 0 and " + maxWait.toSeconds());
+        }
+        return customerChangeStreams.poll(after, limit, Duration.ofSeconds(waitSeconds));
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(name = "after", required = false) Long after,
+                             @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId,
+                             @RequestParam(name = "limit", defaultValue = "100") int limit
+    ) {
+        long cursor = lastEventId != null ? lastEventId : after != null ? after : 0L;
+        validateCursor(cursor, limit);
+        return customerChangeStreams.stream(cursor, limit);
+    }
+
+    private void validateCursor(long after, int limit) {
+        if(after < 0) {
+            throw new InvalidRequestException("after must not be negative");
+        }
+        if(limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+}
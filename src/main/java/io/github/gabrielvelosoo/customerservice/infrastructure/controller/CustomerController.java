@@ -1,31 +1,118 @@
 package io.github.gabrielvelosoo.customerservice.infrastructure.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.gabrielvelosoo.customerservice.application.cache.CustomerCacheEntry;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerBatchResponseDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerFilterDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerPageDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerPatchDTO;
 import io.github.gabrielvelosoo.customerservice.application.dto.CustomerRequestDTO;
 import io.github.gabrielvelosoo.customerservice.application.dto.CustomerResponseDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerSearchResultDTO;
 import io.github.gabrielvelosoo.customerservice.application.dto.CustomerUpdateDTO;
+import io.github.gabrielvelosoo.customerservice.application.usecase.CustomerBatchUseCase;
+import io.github.gabrielvelosoo.customerservice.application.usecase.CustomerSearchUseCase;
 import io.github.gabrielvelosoo.customerservice.application.usecase.CustomerUseCase;
 import io.github.gabrielvelosoo.customerservice.application.validator.group.ValidationOrder;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.InvalidRequestException;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping(value = "/api/v1/customers")
 @RequiredArgsConstructor
 public class CustomerController implements GenericController {
 
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+    private static final int MAX_SEARCH_RESULTS = 50;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 100;
+
     private final CustomerUseCase customerUseCase;
+    private final CustomerBatchUseCase customerBatchUseCase;
+    private final CustomerSearchUseCase customerSearchUseCase;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
-    public ResponseEntity<CustomerResponseDTO> create(@RequestBody @Validated(ValidationOrder.class) CustomerRequestDTO customerRequestDTO) {
-        CustomerResponseDTO customerResponseDTO = customerUseCase.create(customerRequestDTO);
+    public ResponseEntity<CustomerResponseDTO> create(@RequestBody @Validated(ValidationOrder.class) CustomerRequestDTO customerRequestDTO,
+                                                      @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey
+    ) {
+        if(idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)) {
+            throw new InvalidRequestException("Idempotency-Key must have between 1 and " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+        CustomerResponseDTO customerResponseDTO = customerUseCase.create(customerRequestDTO, idempotencyKey);
         URI location = generateHeaderLocation(customerResponseDTO.id());
         return ResponseEntity.created(location).body(customerResponseDTO);
     }
 
+    @PostMapping(value = "/batch", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<CustomerBatchResponseDTO> createBatch(HttpServletRequest request) throws IOException {
+        try(MappingIterator<CustomerRequestDTO> customers = objectMapper
+                .readerFor(CustomerRequestDTO.class)
+                .readValues(request.getInputStream())
+        ) {
+            CustomerBatchResponseDTO customerBatchResponseDTO = customerBatchUseCase.createBatch(customers);
+            return ResponseEntity.ok(customerBatchResponseDTO);
+        }
+    }
+
+    @GetMapping
+    public ResponseEntity<CustomerPageDTO> list(@RequestParam(name = "name", required = false) String name,
+                                                @RequestParam(name = "createdFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                                                @RequestParam(name = "createdTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+                                                @RequestParam(name = "cepPrefix", required = false) String cepPrefix,
+                                                @RequestParam(name = "cursor", required = false) String cursor,
+                                                @RequestParam(name = "size", defaultValue = "50") int size
+    ) {
+        if(size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if(cepPrefix != null && !cepPrefix.matches("\\d{1,8}")) {
+            throw new InvalidRequestException("CEP prefix must have between 1 and 8 digits");
+        }
+        CustomerFilterDTO customerFilterDTO = new CustomerFilterDTO(name, createdFrom, createdTo, cepPrefix);
+        CustomerPageDTO customerPageDTO = customerUseCase.list(customerFilterDTO, cursor, size);
+        return ResponseEntity.ok(customerPageDTO);
+    }
+
+    @GetMapping(value = "/search")
+    public ResponseEntity<List<CustomerSearchResultDTO>> search(@RequestParam(name = "q") String query,
+                                                                @RequestParam(name = "limit", defaultValue = "10") int limit
+    ) {
+        if(limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new InvalidRequestException("Search limit must be between 1 and " + MAX_SEARCH_RESULTS);
+        }
+        if(query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new InvalidRequestException("Search query must have at most " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+        List<CustomerSearchResultDTO> results = customerSearchUseCase.search(query, limit);
+        return ResponseEntity.ok(results);
+    }
+
+    @GetMapping(value = "/{id}")
+    public ResponseEntity<CustomerResponseDTO> findById(@PathVariable(name = "id") Long id,
+                                                        @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        CustomerCacheEntry cacheEntry = customerUseCase.findById(id);
+        if(cacheEntry.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cacheEntry.eTag()).build();
+        }
+        return ResponseEntity.ok().eTag(cacheEntry.eTag()).body(cacheEntry.customer());
+    }
+
     @PutMapping(value = "/{id}")
     public ResponseEntity<CustomerResponseDTO> edit(@PathVariable(name = "id") Long id,
                                                     @RequestBody @Validated(ValidationOrder.class) CustomerUpdateDTO customerUpdateDTO
@@ -33,4 +120,12 @@ public class CustomerController implements GenericController {
         CustomerResponseDTO customerResponseDTO = customerUseCase.edit(id, customerUpdateDTO);
         return ResponseEntity.ok(customerResponseDTO);
     }
+
+    @PatchMapping(value = "/{id}")
+    public ResponseEntity<CustomerResponseDTO> patch(@PathVariable(name = "id") Long id,
+                                                     @RequestBody @Validated(ValidationOrder.class) CustomerPatchDTO customerPatchDTO
+    ) {
+        CustomerResponseDTO customerResponseDTO = customerUseCase.patch(id, customerPatchDTO);
+        return ResponseEntity.ok(customerResponseDTO);
+    }
 }
@@ -0,0 +1,54 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.controller;
+
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerExportFormat;
+import io.github.gabrielvelosoo.customerservice.application.usecase.CustomerExportUseCase;
+import io.github.gabrielvelosoo.customerservice.domain.repository.criteria.CustomerExportCriteria;
+import io.github.gabrielvelosoo.customerservice.infrastructure.security.config.AdminOnly;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+@AdminOnly
+@RestController
+@RequestMapping(value = "/api/v1/admin/customers/export")
+@RequiredArgsConstructor
+public class CustomerExportController {
+
+    private final CustomerExportUseCase customerExportUseCase;
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(name = "format", defaultValue = "ndjson") String format,
+                                                        @RequestParam(name = "createdSince", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdSince,
+                                                        @RequestParam(name = "updatedSince", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince,
+                                                        @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        CustomerExportFormat exportFormat = CustomerExportFormat.fromValue(format);
+        CustomerExportCriteria criteria = new CustomerExportCriteria(createdSince, updatedSince);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        StreamingResponseBody body = outputStream -> {
+            if(gzip) {
+                GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, 64 * 1024);
+                customerExportUseCase.export(criteria, exportFormat, gzipOutputStream);
+                gzipOutputStream.finish();
+            } else {
+                customerExportUseCase.export(criteria, exportFormat, outputStream);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"customers." + exportFormat.name().toLowerCase(Locale.ROOT) + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if(gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
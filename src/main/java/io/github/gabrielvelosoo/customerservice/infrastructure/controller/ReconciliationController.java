@@ -0,0 +1,23 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.controller;
+
+import io.github.gabrielvelosoo.customerservice.application.dto.ReconciliationReportDTO;
+import io.github.gabrielvelosoo.customerservice.application.usecase.ReconciliationUseCase;
+import io.github.gabrielvelosoo.customerservice.infrastructure.security.config.AdminOnly;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@AdminOnly
+@RestController
+@RequestMapping(value = "/api/v1/admin/reconciliation")
+@RequiredArgsConstructor
+public class ReconciliationController {
+
+    private final ReconciliationUseCase reconciliationUseCase;
+
+    @PostMapping
+    public ResponseEntity<ReconciliationReportDTO> reconcile(@RequestParam(name = "repair", defaultValue = "false") boolean repair) {
+        ReconciliationReportDTO reconciliationReportDTO = reconciliationUseCase.reconcile(repair);
+        return ResponseEntity.ok(reconciliationReportDTO);
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.events;
+
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerChangeDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerChangesDTO;
+import io.github.gabrielvelosoo.customerservice.application.usecase.CustomerChangeUseCase;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerChangeStreams {
+
+    private final CustomerChangeUseCase customerChangeUseCase;
+    private final InProcessCustomerEventPublisher publisher;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("customer-changes-", 0).factory());
+
+    @Value("${customer.events.sse-timeout}")
+    private Duration sseTimeout;
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public DeferredResult<CustomerChangesDTO> poll(long after, int limit, Duration wait) {
+        DeferredResult<CustomerChangesDTO> result = new DeferredResult<>(wait.toMillis());
+        CustomerChangesDTO changes = customerChangeUseCase.findAfter(after, limit);
+        if(!changes.changes().isEmpty() || wait.isZero()) {
+            result.setResult(changes);
+            return result;
+        }
+        AtomicBoolean completing = new AtomicBoolean();
+        Runnable complete = () -> {
+            if(completing.compareAndSet(false, true)) {
+                executor.execute(() -> completeQuietly(result, after, limit));
+            }
+        };
+        Runnable unsubscribe = publisher.subscribe(lastSequence -> {
+            if(lastSequence > after) {
+                complete.run();
+            }
+        });
+        result.onCompletion(unsubscribe);
+        result.onTimeout(() -> {
+            if(completing.compareAndSet(false, true)) {
+                completeQuietly(result, after, limit);
+            }
+        });
+        if(!customerChangeUseCase.findAfter(after, 1).changes().isEmpty()) {
+            complete.run();
+        }
+        return result;
+    }
+
+    public SseEmitter stream(long after, int batchSize) {
+        SseEmitter emitter = new SseEmitter(sseTimeout.toMillis());
+        Subscription subscription = new Subscription(emitter, after, batchSize);
+        Runnable unsubscribe = publisher.subscribe(lastSequence -> {
+            if(lastSequence > subscription.cursor) {
+                subscription.schedule();
+            }
+        });
+        subscription.unsubscribe = unsubscribe;
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe.run());
+        subscription.schedule();
+        return emitter;
+    }
+
+    private void completeQuietly(DeferredResult<CustomerChangesDTO> result, long after, int limit) {
+        try {
+            result.setResult(customerChangeUseCase.findAfter(after, limit));
+        } catch(RuntimeException e) {
+            result.setErrorResult(e);
+        }
+    }
+
+    private final class Subscription {
+
+        private final SseEmitter emitter;
+        private final int batchSize;
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile long cursor;
+        private volatile Runnable unsubscribe;
+
+        private Subscription(SseEmitter emitter, long after, int batchSize) {
+            this.emitter = emitter;
+            this.cursor = after;
+            this.batchSize = batchSize;
+        }
+
+        private void schedule() {
+            if(pending.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if(!sendAvailable()) {
+                    return;
+                }
+                missed = pending.addAndGet(-missed);
+            } while(missed != 0);
+        }
+
+        private boolean sendAvailable() {
+            try {
+                CustomerChangesDTO changes;
+                do {
+                    changes = customerChangeUseCase.findAfter(cursor, batchSize);
+                    for(CustomerChangeDTO change : changes.changes()) {
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(change.sequence()))
+                                .name(change.type().name())
+                                .data(change, MediaType.APPLICATION_JSON));
+                        cursor = change.sequence();
+                    }
+                } while(changes.changes().size() == batchSize);
+                return true;
+            } catch(IOException | RuntimeException e) {
+                log.debug("Closing customer change stream at sequence {}: {}", cursor, e.getMessage());
+                unsubscribe.run();
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+}
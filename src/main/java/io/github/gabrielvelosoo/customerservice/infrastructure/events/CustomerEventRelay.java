@@ -0,0 +1,32 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.events;
+
+import io.github.gabrielvelosoo.customerservice.domain.service.event.CustomerEventService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "customer.events.relay-enabled", havingValue = "true")
+public class CustomerEventRelay {
+
+    private final CustomerEventService customerEventService;
+
+    @Value("${customer.events.batch-size}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${customer.events.poll-interval}")
+    public void relayPending() {
+        try {
+            while(customerEventService.publishPending(batchSize) == batchSize) {
+                log.debug("Customer event backlog still pending, relaying next batch");
+            }
+        } catch(RuntimeException e) {
+            log.warn("Relaying customer events failed: {}", e.getMessage());
+        }
+    }
+}
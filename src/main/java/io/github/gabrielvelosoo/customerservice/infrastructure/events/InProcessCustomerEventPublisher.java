@@ -0,0 +1,50 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.events;
+
+import io.github.gabrielvelosoo.customerservice.domain.entity.CustomerEvent;
+import io.github.gabrielvelosoo.customerservice.domain.service.event.CustomerEventPublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+
+@Slf4j
+@Component
+public class InProcessCustomerEventPublisher implements CustomerEventPublisher {
+
+    private final Set<LongConsumer> subscribers = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void publish(List<CustomerEvent> events) {
+        long lastSequence = events.get(events.size() - 1).getSequence();
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notifySubscribers(lastSequence);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                notifySubscribers(lastSequence);
+            }
+        });
+    }
+
+    public Runnable subscribe(LongConsumer subscriber) {
+        subscribers.add(subscriber);
+        return () -> subscribers.remove(subscriber);
+    }
+
+    private void notifySubscribers(long lastSequence) {
+        for(LongConsumer subscriber : subscribers) {
+            try {
+                subscriber.accept(lastSequence);
+            } catch(RuntimeException e) {
+                log.warn("Customer change subscriber failed: {}", e.getMessage());
+            }
+        }
+    }
+}
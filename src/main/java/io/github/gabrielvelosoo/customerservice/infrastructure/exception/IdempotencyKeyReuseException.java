@@ -0,0 +1,8 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.exception;
+
+public class IdempotencyKeyReuseException extends RuntimeException {
+
+    public IdempotencyKeyReuseException(String message) {
+        super(message);
+    }
+}
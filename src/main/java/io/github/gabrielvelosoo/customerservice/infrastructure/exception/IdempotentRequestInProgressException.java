@@ -0,0 +1,8 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.exception;
+
+public class IdempotentRequestInProgressException extends RuntimeException {
+
+    public IdempotentRequestInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.exception;
+
+public class IdentityProviderBusyException extends RuntimeException {
+
+    public IdentityProviderBusyException(String message) {
+        super(message);
+    }
+}
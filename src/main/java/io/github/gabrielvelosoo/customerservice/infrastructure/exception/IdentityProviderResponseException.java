@@ -0,0 +1,14 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.exception;
+
+import lombok.Getter;
+
+@Getter
+public class IdentityProviderResponseException extends RuntimeException {
+
+    private final int status;
+
+    public IdentityProviderResponseException(String message, int status) {
+        super(message + ": " + status);
+        this.status = status;
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.exception;
+
+import lombok.Getter;
+
+@Getter
+public class IdentityProviderUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public IdentityProviderUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
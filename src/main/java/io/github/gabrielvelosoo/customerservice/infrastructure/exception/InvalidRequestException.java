@@ -0,0 +1,8 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.exception;
+
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
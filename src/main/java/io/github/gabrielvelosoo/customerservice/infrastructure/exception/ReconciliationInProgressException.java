@@ -0,0 +1,8 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.exception;
+
+public class ReconciliationInProgressException extends RuntimeException {
+
+    public ReconciliationInProgressException(String message) {
+        super(message);
+    }
+}
@@ -1,10 +1,18 @@
 package io.github.gabrielvelosoo.customerservice.infrastructure.exception.handler;
 
 import io.github.gabrielvelosoo.customerservice.infrastructure.exception.DuplicateRecordException;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.IdempotencyKeyReuseException;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.IdempotentRequestInProgressException;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.IdentityProviderBusyException;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.IdentityProviderUnavailableException;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.InvalidRequestException;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.ReconciliationInProgressException;
 import io.github.gabrielvelosoo.customerservice.infrastructure.exception.RecordNotFoundException;
 import io.github.gabrielvelosoo.customerservice.infrastructure.exception.model.ErrorResponse;
 import io.github.gabrielvelosoo.customerservice.infrastructure.exception.model.FieldError;
 import io.github.gabrielvelosoo.customerservice.infrastructure.exception.model.ValidationErrorResponse;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -42,6 +50,84 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(errorResponse);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        int status = HttpStatus.CONFLICT.value();
+        String message = "Record was modified concurrently, please retry";
+        LocalDateTime timestamp = LocalDateTime.now();
+        ErrorResponse errorResponse = new ErrorResponse(
+                status,
+                message,
+                timestamp
+        );
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+
+    @ExceptionHandler(IdempotencyKeyReuseException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReuseException(IdempotencyKeyReuseException e) {
+        int status = HttpStatus.UNPROCESSABLE_ENTITY.value();
+        String message = e.getMessage();
+        LocalDateTime timestamp = LocalDateTime.now();
+        ErrorResponse errorResponse = new ErrorResponse(
+                status,
+                message,
+                timestamp
+        );
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+
+    @ExceptionHandler(IdentityProviderBusyException.class)
+    public ResponseEntity<ErrorResponse> handleIdentityProviderBusyException(IdentityProviderBusyException e) {
+        int status = HttpStatus.TOO_MANY_REQUESTS.value();
+        String message = e.getMessage();
+        LocalDateTime timestamp = LocalDateTime.now();
+        ErrorResponse errorResponse = new ErrorResponse(
+                status,
+                message,
+                timestamp
+        );
+        return ResponseEntity.status(status).header(HttpHeaders.RETRY_AFTER, "1").body(errorResponse);
+    }
+
+    @ExceptionHandler(IdentityProviderUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleIdentityProviderUnavailableException(IdentityProviderUnavailableException e) {
+        int status = HttpStatus.SERVICE_UNAVAILABLE.value();
+        String message = e.getMessage();
+        LocalDateTime timestamp = LocalDateTime.now();
+        ErrorResponse errorResponse = new ErrorResponse(
+                status,
+                message,
+                timestamp
+        );
+        return ResponseEntity.status(status).header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds())).body(errorResponse);
+    }
+
+    @ExceptionHandler(IdempotentRequestInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotentRequestInProgressException(IdempotentRequestInProgressException e) {
+        int status = HttpStatus.CONFLICT.value();
+        String message = e.getMessage();
+        LocalDateTime timestamp = LocalDateTime.now();
+        ErrorResponse errorResponse = new ErrorResponse(
+                status,
+                message,
+                timestamp
+        );
+        return ResponseEntity.status(status).header(HttpHeaders.RETRY_AFTER, "1").body(errorResponse);
+    }
+
+    @ExceptionHandler(ReconciliationInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleReconciliationInProgressException(ReconciliationInProgressException e) {
+        int status = HttpStatus.CONFLICT.value();
+        String message = e.getMessage();
+        LocalDateTime timestamp = LocalDateTime.now();
+        ErrorResponse errorResponse = new ErrorResponse(
+                status,
+                message,
+                timestamp
+        );
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+
     @ExceptionHandler(RecordNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleRecordNotFoundException(RecordNotFoundException e) {
         int status = HttpStatus.NOT_FOUND.value();
@@ -54,4 +140,17 @@ public class GlobalExceptionHandler {
         );
         return ResponseEntity.status(status).body(errorResponse);
     }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequestException(InvalidRequestException e) {
+        int status = HttpStatus.BAD_REQUEST.value();
+        String message = e.getMessage();
+        LocalDateTime timestamp = LocalDateTime.now();
+        ErrorResponse errorResponse = new ErrorResponse(
+                status,
+                message,
+                timestamp
+        );
+        return ResponseEntity.status(status).body(errorResponse);
+    }
 }
@@ -0,0 +1,21 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum CustomerStage {
+    CREATE_VALIDATE("create", "validate"),
+    CREATE_IDENTITY("create", "identity"),
+    CREATE_PERSIST("create", "persist"),
+    CREATE_TOTAL("create", "total"),
+    EDIT_LOAD("edit", "load"),
+    EDIT_VALIDATE("edit", "validate"),
+    EDIT_IDENTITY("edit", "identity"),
+    EDIT_PERSIST("edit", "persist"),
+    EDIT_TOTAL("edit", "total");
+
+    private final String operation;
+    private final String stage;
+}
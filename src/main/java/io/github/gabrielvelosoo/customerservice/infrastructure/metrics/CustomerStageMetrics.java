@@ -0,0 +1,36 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class CustomerStageMetrics {
+
+    private final Map<CustomerStage, Timer> timers = new EnumMap<>(CustomerStage.class);
+
+    public CustomerStageMetrics(MeterRegistry meterRegistry) {
+        for(CustomerStage stage : CustomerStage.values()) {
+            timers.put(stage, Timer.builder("customer.usecase")
+                    .description("Time spent in each stage of the customer use cases")
+                    .tag("operation", stage.getOperation())
+                    .tag("stage", stage.getStage())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    public long start() {
+        return System.nanoTime();
+    }
+
+    public long record(CustomerStage stage, long startNanos) {
+        long now = System.nanoTime();
+        timers.get(stage).record(now - startNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum IdentityProviderCall {
+    SEARCH("search"),
+    CREATE("create"),
+    ROLE_LOOKUP("role_lookup"),
+    ROLE_ADD("role_add"),
+    UPDATE("update"),
+    LIST("list"),
+    DELETE("delete");
+
+    private final String tagValue;
+}
@@ -0,0 +1,52 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+public class IdentityProviderMetrics {
+
+    private final Map<IdentityProviderCall, Timer> successTimers = new EnumMap<>(IdentityProviderCall.class);
+    private final Map<IdentityProviderCall, Timer> errorTimers = new EnumMap<>(IdentityProviderCall.class);
+
+    public IdentityProviderMetrics(MeterRegistry meterRegistry) {
+        for(IdentityProviderCall call : IdentityProviderCall.values()) {
+            successTimers.put(call, timer(meterRegistry, call, "success"));
+            errorTimers.put(call, timer(meterRegistry, call, "error"));
+        }
+    }
+
+    public <T> T record(IdentityProviderCall call, Supplier<T> action) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = action.get();
+            success = true;
+            return result;
+        } finally {
+            (success ? successTimers : errorTimers).get(call).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void recordVoid(IdentityProviderCall call, Runnable action) {
+        record(call, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private Timer timer(MeterRegistry meterRegistry, IdentityProviderCall call, String outcome) {
+        return Timer.builder("identity.provider.call")
+                .description("Latency of individual identity provider admin API calls")
+                .tag("call", call.getTagValue())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
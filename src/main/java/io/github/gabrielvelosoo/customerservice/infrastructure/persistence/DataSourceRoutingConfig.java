@@ -0,0 +1,77 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.persistence;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(name = "customer.datasource.replica-routing", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties dataSourceProperties,
+                                                             ReplicaProperties replicaProperties,
+                                                             MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicaProperties.Replica> configured = replicaProperties.replicas() != null ? replicaProperties.replicas() : List.of();
+        for(int i = 0; i < configured.size(); i++) {
+            String name = "replica-" + (i + 1);
+            replicas.put(name, replicaPool(name, configured.get(i), primaryDataSource, dataSourceProperties, replicaProperties, meterRegistry));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, replicaProperties.healthCheckTimeout(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+        dataSource.setDefaultAutoCommit(primaryDataSource.isAutoCommit());
+        return dataSource;
+    }
+
+    private HikariDataSource replicaPool(String name,
+                                         ReplicaProperties.Replica replica,
+                                         HikariDataSource primaryDataSource,
+                                         DataSourceProperties dataSourceProperties,
+                                         ReplicaProperties replicaProperties,
+                                         MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(replica.url());
+        config.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        config.setUsername(replica.username() != null ? replica.username() : dataSourceProperties.determineUsername());
+        config.setPassword(replica.password() != null ? replica.password() : dataSourceProperties.determinePassword());
+        config.setMaximumPoolSize(replica.maximumPoolSize() != null ? replica.maximumPoolSize() : primaryDataSource.getMaximumPoolSize());
+        config.setConnectionTimeout(replicaProperties.connectionTimeout().toMillis());
+        config.setReadOnly(true);
+        config.setInitializationFailTimeout(-1);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.persistence;
+
+import java.util.function.Supplier;
+
+public final class PrimaryReadScope {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private PrimaryReadScope() {
+    }
+
+    public static <T> T call(Supplier<T> action) {
+        if(isActive()) {
+            return action.get();
+        }
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+
+    public static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+}
@@ -0,0 +1,186 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.persistence;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+public class ProfilingDataSource extends DelegatingDataSource implements Closeable {
+
+    private final ObjectProvider<SqlProfiler> profilerProvider;
+    private volatile SqlProfiler profiler;
+
+    public ProfilingDataSource(DataSource targetDataSource, ObjectProvider<SqlProfiler> profilerProvider) {
+        super(targetDataSource);
+        this.profilerProvider = profilerProvider;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return profile(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return profile(super.getConnection(username, password));
+    }
+
+    @Override
+    public void close() {
+        if(obtainTargetDataSource() instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch(IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private Connection profile(Connection connection) {
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    private SqlProfiler profiler() {
+        SqlProfiler current = profiler;
+        if(current == null) {
+            current = profilerProvider.getIfAvailable();
+            profiler = current;
+        }
+        return current;
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(ProfilingDataSource.class.getClassLoader(), new Class<?>[]{ type }, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch(InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if(method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            if(method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            Object result = ProfilingDataSource.invoke(target, method, args);
+            Connection connection = (Connection) proxy;
+            return switch(method.getName()) {
+                case "createStatement" -> proxy(Statement.class, new StatementHandler(connection, (Statement) result, null));
+                case "prepareStatement" -> proxy(PreparedStatement.class, new StatementHandler(connection, (Statement) result, (String) args[0]));
+                case "prepareCall" -> proxy(CallableStatement.class, new StatementHandler(connection, (Statement) result, (String) args[0]));
+                default -> result;
+            };
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Connection connection;
+        private final Statement target;
+        private String sql;
+        private Object[] parameters = new Object[8];
+        private int parameterCount;
+        private int batchSize;
+
+        private StatementHandler(Connection connection, Statement target, String sql) {
+            this.connection = connection;
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if(name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if(name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if(name.equals("getConnection")) {
+                return connection;
+            }
+            if(name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if(name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, args[1]);
+            } else if(name.equals("clearParameters")) {
+                clearParameters();
+            } else if(name.equals("addBatch")) {
+                batchSize++;
+                if(args != null && args.length == 1) {
+                    sql = (String) args[0];
+                }
+            } else if(name.equals("clearBatch")) {
+                batchSize = 0;
+            }
+            return ProfilingDataSource.invoke(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            SqlProfiler profiler = profiler();
+            if(profiler == null) {
+                return ProfilingDataSource.invoke(target, method, args);
+            }
+            String executed = args != null && args.length > 0 && args[0] instanceof String statement ? statement : sql;
+            boolean batch = method.getName().endsWith("Batch");
+            boolean success = false;
+            long start = System.nanoTime();
+            try {
+                Object result = ProfilingDataSource.invoke(target, method, args);
+                success = true;
+                return result;
+            } finally {
+                profiler.record(executed, parameters, parameterCount, batch ? batchSize : 0, System.nanoTime() - start, success);
+                if(batch) {
+                    batchSize = 0;
+                }
+            }
+        }
+
+        private void bind(int index, Object value) {
+            if(index <= 0) {
+                return;
+            }
+            if(index >= parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index + 1, parameters.length * 2));
+            }
+            parameters[index] = value;
+            parameterCount = Math.max(parameterCount, index);
+        }
+
+        private void clearParameters() {
+            Arrays.fill(parameters, 0, parameterCount + 1, null);
+            parameterCount = 0;
+        }
+    }
+}
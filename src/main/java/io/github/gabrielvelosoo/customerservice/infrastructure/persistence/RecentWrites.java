@@ -0,0 +1,43 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+@Component
+public class RecentWrites {
+
+    @Value("${customer.datasource.read-your-writes-window}")
+    private Duration window;
+
+    @Value("${customer.datasource.read-your-writes-maximum-size}")
+    private long maximumSize;
+
+    private Cache<Long, Boolean> written;
+
+    @PostConstruct
+    public void init() {
+        written = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(window.isZero() ? Duration.ofNanos(1) : window)
+                .build();
+    }
+
+    public void record(Long customerId) {
+        if(!window.isZero()) {
+            written.put(customerId, Boolean.TRUE);
+        }
+    }
+
+    public <T> T read(Long customerId, Supplier<T> action) {
+        if(written.getIfPresent(customerId) != null) {
+            return PrimaryReadScope.call(action);
+        }
+        return action.get();
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "customer.datasource")
+public record ReplicaProperties(
+        boolean replicaRouting,
+        List<Replica> replicas,
+        Duration connectionTimeout,
+        Duration healthCheckTimeout
+    ) {
+
+    public record Replica(
+            String url,
+            String username,
+            String password,
+            Integer maximumPoolSize
+        ) {
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final int healthCheckTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter fallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration healthCheckTimeout, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicas.size());
+        this.healthCheckTimeoutSeconds = Math.max(1, (int) healthCheckTimeout.toSeconds());
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource);
+            this.replicas.add(replica);
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        });
+        this.fallbacks = Counter.builder("datasource.replica.fallbacks")
+                .description("Read-only connections served by the primary because no replica was available")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if(!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PrimaryReadScope.isActive() || replicas.isEmpty()) {
+            return primary.getConnection();
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for(int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if(!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch(SQLException e) {
+                markDown(replica, e);
+            }
+        }
+        fallbacks.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica routing does not support per-call credentials");
+    }
+
+    @Scheduled(fixedDelayString = "${customer.datasource.health-check-interval}")
+    public void checkHealth() {
+        for(Replica replica : replicas) {
+            boolean healthy = probe(replica);
+            if(healthy && !replica.healthy) {
+                log.info("Replica {} is back in rotation", replica.name);
+            } else if(!healthy && replica.healthy) {
+                log.warn("Replica {} failed its health check and was taken out of rotation", replica.name);
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    private boolean probe(Replica replica) {
+        try(Connection connection = replica.dataSource.getConnection()) {
+            return connection.isValid(healthCheckTimeoutSeconds);
+        } catch(SQLException e) {
+            return false;
+        }
+    }
+
+    private void markDown(Replica replica, SQLException e) {
+        if(replica.healthy) {
+            replica.healthy = false;
+            log.warn("Replica {} taken out of rotation: {}", replica.name, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        for(Replica replica : replicas) {
+            if(replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class SqlProfiler {
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 2000;
+
+    private final Map<StatementType, Timer> succeeded = new EnumMap<>(StatementType.class);
+    private final Map<StatementType, Timer> failed = new EnumMap<>(StatementType.class);
+    private final List<SqlStatementListener> listeners = new CopyOnWriteArrayList<>();
+    private final long slowThresholdNanos;
+    private final double slowSampleRate;
+    private final boolean logParameters;
+
+    public SqlProfiler(MeterRegistry meterRegistry,
+                       @Value("${customer.sql-profiling.slow-threshold}") Duration slowThreshold,
+                       @Value("${customer.sql-profiling.slow-sample-rate}") double slowSampleRate,
+                       @Value("${customer.sql-profiling.log-parameters}") boolean logParameters) {
+        for(StatementType type : StatementType.values()) {
+            succeeded.put(type, timer(meterRegistry, type, "success"));
+            failed.put(type, timer(meterRegistry, type, "error"));
+        }
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowSampleRate = slowSampleRate;
+        this.logParameters = logParameters;
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, StatementType type, String outcome) {
+        return Timer.builder("sql.statements")
+                .description("JDBC statement execution time")
+                .tag("type", type.name().toLowerCase())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    public Runnable addListener(SqlStatementListener listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    void record(String sql, Object[] parameters, int parameterCount, int batchSize, long elapsedNanos, boolean success) {
+        StatementType type = StatementType.of(sql);
+        (success ? succeeded : failed).get(type).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        for(SqlStatementListener listener : listeners) {
+            listener.onStatement(type, sql, elapsedNanos);
+        }
+        if(elapsedNanos >= slowThresholdNanos && ThreadLocalRandom.current().nextDouble() < slowSampleRate) {
+            log.warn("Slow SQL ({} ms{}): {} {}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    batchSize > 0 ? ", batch of " + batchSize : "",
+                    abbreviate(sql),
+                    describe(parameters, parameterCount));
+        }
+    }
+
+    private String describe(Object[] parameters, int parameterCount) {
+        StringBuilder description = new StringBuilder("[");
+        for(int i = 1; i <= parameterCount; i++) {
+            if(i > 1) {
+                description.append(", ");
+            }
+            Object value = parameters[i];
+            if(value == null) {
+                description.append("null");
+            } else if(logParameters) {
+                description.append(value);
+            } else if(value instanceof CharSequence text) {
+                description.append("String(").append(text.length()).append(')');
+            } else {
+                description.append(value.getClass().getSimpleName());
+            }
+        }
+        return description.append(']').toString();
+    }
+
+    private String abbreviate(String sql) {
+        String singleLine = sql.replaceAll("\\s+", " ").trim();
+        return singleLine.length() <= MAX_LOGGED_SQL_LENGTH ? singleLine : singleLine.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
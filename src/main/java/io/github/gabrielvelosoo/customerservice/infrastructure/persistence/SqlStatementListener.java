@@ -0,0 +1,7 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.persistence;
+
+@FunctionalInterface
+public interface SqlStatementListener {
+
+    void onStatement(StatementType type, String sql, long elapsedNanos);
+}
@@ -0,0 +1,49 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.persistence;
+
+public enum StatementType {
+    SELECT,
+    INSERT,
+    UPDATE,
+    DELETE,
+    OTHER;
+
+    public static StatementType of(String sql) {
+        if(sql == null) {
+            return OTHER;
+        }
+        int start = 0;
+        int length = sql.length();
+        while(start < length) {
+            char c = sql.charAt(start);
+            if(Character.isWhitespace(c) || c == '(') {
+                start++;
+            } else if(sql.startsWith("/*", start)) {
+                int end = sql.indexOf("*/", start + 2);
+                start = end < 0 ? length : end + 2;
+            } else if(sql.startsWith("--", start)) {
+                int end = sql.indexOf('\n', start);
+                start = end < 0 ? length : end + 1;
+            } else {
+                break;
+            }
+        }
+        if(startsWithKeyword(sql, start, "select") || startsWithKeyword(sql, start, "with")) {
+            return SELECT;
+        }
+        if(startsWithKeyword(sql, start, "insert")) {
+            return INSERT;
+        }
+        if(startsWithKeyword(sql, start, "update")) {
+            return UPDATE;
+        }
+        if(startsWithKeyword(sql, start, "delete")) {
+            return DELETE;
+        }
+        return OTHER;
+    }
+
+    private static boolean startsWithKeyword(String sql, int offset, String keyword) {
+        return sql.regionMatches(true, offset, keyword, 0, keyword.length())
+                && (sql.length() == offset + keyword.length() || !Character.isLetterOrDigit(sql.charAt(offset + keyword.length())));
+    }
+}
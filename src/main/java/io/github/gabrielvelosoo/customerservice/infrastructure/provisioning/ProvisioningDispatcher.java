@@ -0,0 +1,135 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.provisioning;
+
+import io.github.gabrielvelosoo.customerservice.application.cache.CustomerReadCache;
+import io.github.gabrielvelosoo.customerservice.domain.entity.ProvisioningTask;
+import io.github.gabrielvelosoo.customerservice.domain.service.auth.IdentityProvider;
+import io.github.gabrielvelosoo.customerservice.domain.service.provisioning.ProvisioningService;
+import io.github.gabrielvelosoo.customerservice.infrastructure.security.crypto.CredentialCipher;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "customer.provisioning.async-enabled", havingValue = "true")
+public class ProvisioningDispatcher {
+
+    private final ProvisioningService provisioningService;
+    private final IdentityProvider identityProvider;
+    private final CustomerReadCache customerReadCache;
+    private final CredentialCipher credentialCipher;
+
+    @Value("${customer.provisioning.concurrency}")
+    private int concurrency;
+
+    @Value("${customer.provisioning.batch-size}")
+    private int batchSize;
+
+    @Value("${customer.provisioning.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${customer.provisioning.base-backoff}")
+    private Duration baseBackoff;
+
+    @Value("${customer.provisioning.max-backoff}")
+    private Duration maxBackoff;
+
+    @Value("${customer.provisioning.claim-lease}")
+    private Duration claimLease;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        if(!credentialCipher.isConfigured()) {
+            throw new IllegalStateException("customer.provisioning.credential-key is required when async provisioning is enabled");
+        }
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("provisioning-", 0).factory()
+                : Thread.ofPlatform().name("provisioning-", 0).factory();
+        executor = Executors.newFixedThreadPool(concurrency, threadFactory);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    @Scheduled(fixedDelayString = "${customer.provisioning.poll-interval}")
+    public void dispatchPending() {
+        List<ProvisioningTask> tasks = provisioningService.claimDue(batchSize, LocalDateTime.now().plus(claimLease));
+        if(tasks.isEmpty()) {
+            return;
+        }
+        List<Callable<Void>> jobs = tasks.stream()
+                .<Callable<Void>>map(task -> () -> {
+                    provision(task);
+                    return null;
+                })
+                .toList();
+        try {
+            executor.invokeAll(jobs);
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void provision(ProvisioningTask task) {
+        try {
+            String keycloakUserId = resolveUserId(task);
+            provisioningService.complete(task, keycloakUserId);
+            customerReadCache.evict(task.getCustomerId());
+        } catch(RuntimeException e) {
+            int attempts = task.getAttempts() + 1;
+            if(attempts >= maxAttempts) {
+                log.error("Giving up provisioning customer {} after {} attempts", task.getCustomerId(), attempts, e);
+                provisioningService.abandon(task);
+                customerReadCache.evict(task.getCustomerId());
+                return;
+            }
+            log.warn("Provisioning customer {} failed (attempt {}): {}", task.getCustomerId(), attempts, e.getMessage());
+            provisioningService.retry(task, e.getMessage(), LocalDateTime.now().plus(backoff(attempts)));
+        }
+    }
+
+    private String resolveUserId(ProvisioningTask task) {
+        if(task.getAttempts() > 0) {
+            Optional<String> existingUserId = identityProvider.findUserId(task.getEmail());
+            if(existingUserId.isPresent()) {
+                return existingUserId.get();
+            }
+        }
+        return identityProvider.createUser(task.getEmail(), password(task), task.getName(), task.getLastName());
+    }
+
+    private String password(ProvisioningTask task) {
+        if(task.getEncryptedPassword() == null) {
+            log.warn("Provisioning customer {} without a password, the customer must reset it", task.getCustomerId());
+            return null;
+        }
+        return credentialCipher.decrypt(task.getEncryptedPassword(), String.valueOf(task.getCustomerId()));
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = baseBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.reconciliation;
+
+import io.github.gabrielvelosoo.customerservice.application.usecase.ReconciliationUseCase;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.ReconciliationInProgressException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReconciliationScheduler {
+
+    private final ReconciliationUseCase reconciliationUseCase;
+
+    @Value("${customer.reconciliation.scheduled-repair}")
+    private boolean repair;
+
+    @Scheduled(cron = "${customer.reconciliation.cron}")
+    public void reconcile() {
+        try {
+            reconciliationUseCase.reconcile(repair);
+        } catch(ReconciliationInProgressException e) {
+            log.info("Skipping scheduled reconciliation: {}", e.getMessage());
+        } catch(RuntimeException e) {
+            log.error("Scheduled reconciliation failed", e);
+        }
+    }
+}
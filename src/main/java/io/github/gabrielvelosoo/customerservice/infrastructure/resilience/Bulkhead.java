@@ -0,0 +1,56 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.resilience;
+
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.IdentityProviderBusyException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class Bulkhead {
+
+    private final int maxConcurrentCalls;
+    private final int maxQueueSize;
+    private final long maxQueueWaitNanos;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public Bulkhead(int maxConcurrentCalls, int maxQueueSize, Duration maxQueueWait) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxQueueSize = maxQueueSize;
+        this.maxQueueWaitNanos = maxQueueWait.toNanos();
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+    }
+
+    public void acquire() {
+        if(permits.tryAcquire()) {
+            return;
+        }
+        if(waiting.incrementAndGet() > maxQueueSize) {
+            waiting.decrementAndGet();
+            throw new IdentityProviderBusyException("Identity provider is busy, please retry");
+        }
+        try {
+            if(!permits.tryAcquire(maxQueueWaitNanos, TimeUnit.NANOSECONDS)) {
+                throw new IdentityProviderBusyException("Identity provider is busy, please retry");
+            }
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdentityProviderBusyException("Interrupted while waiting for the identity provider");
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    public int getInFlight() {
+        return maxConcurrentCalls - permits.availablePermits();
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.resilience;
+
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.IdentityProviderUnavailableException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong();
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+    private volatile State state = State.CLOSED;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    public void acquirePermission() {
+        State current = state;
+        if(current == State.CLOSED) {
+            return;
+        }
+        long remainingNanos = openedAt.get() + openDurationNanos - System.nanoTime();
+        if(current == State.OPEN && remainingNanos > 0) {
+            throw unavailable(remainingNanos);
+        }
+        if(!probeInFlight.compareAndSet(false, true)) {
+            throw unavailable(Math.max(remainingNanos, 0));
+        }
+        state = State.HALF_OPEN;
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        if(state != State.CLOSED) {
+            state = State.CLOSED;
+            probeInFlight.set(false);
+        }
+    }
+
+    public void onFailure() {
+        if(state == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open();
+        }
+    }
+
+    public void onIgnored() {
+        if(state == State.HALF_OPEN) {
+            probeInFlight.set(false);
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    private void open() {
+        openedAt.set(System.nanoTime());
+        state = State.OPEN;
+        probeInFlight.set(false);
+    }
+
+    private IdentityProviderUnavailableException unavailable(long remainingNanos) {
+        long retryAfterSeconds = Math.max(1, Duration.ofNanos(remainingNanos).toSeconds());
+        return new IdentityProviderUnavailableException("Identity provider is unavailable, please retry later", retryAfterSeconds);
+    }
+}
@@ -0,0 +1,152 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.resilience;
+
+import io.github.gabrielvelosoo.customerservice.domain.service.auth.IdentityProvider;
+import io.github.gabrielvelosoo.customerservice.domain.service.auth.IdentityUser;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.IdentityProviderBusyException;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.IdentityProviderResponseException;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.IdentityProviderUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.WebApplicationException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Primary
+@Component
+public class ResilientIdentityProvider implements IdentityProvider {
+
+    private final IdentityProvider target;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final Counter bulkheadRejections;
+    private final Counter circuitRejections;
+
+    public ResilientIdentityProvider(@Qualifier("targetIdentityProvider") IdentityProvider target,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${identity-provider.resilience.max-concurrent-calls}") int maxConcurrentCalls,
+                                     @Value("${identity-provider.resilience.max-queue-size}") int maxQueueSize,
+                                     @Value("${identity-provider.resilience.max-queue-wait}") Duration maxQueueWait,
+                                     @Value("${identity-provider.resilience.failure-threshold}") int failureThreshold,
+                                     @Value("${identity-provider.resilience.open-duration}") Duration openDuration
+    ) {
+        this.target = target;
+        this.bulkhead = new Bulkhead(maxConcurrentCalls, maxQueueSize, maxQueueWait);
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDuration);
+        this.bulkheadRejections = Counter.builder("identity.provider.rejections")
+                .tag("reason", "bulkhead_full")
+                .register(meterRegistry);
+        this.circuitRejections = Counter.builder("identity.provider.rejections")
+                .tag("reason", "circuit_open")
+                .register(meterRegistry);
+        Gauge.builder("identity.provider.bulkhead.queue", bulkhead, Bulkhead::getWaiting)
+                .description("Calls waiting for an identity provider permit")
+                .register(meterRegistry);
+        Gauge.builder("identity.provider.bulkhead.in-flight", bulkhead, Bulkhead::getInFlight)
+                .description("Identity provider calls currently executing")
+                .register(meterRegistry);
+        Gauge.builder("identity.provider.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("Circuit breaker state: 0 closed, 1 open, 2 half-open")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<String> findUserId(String email) {
+        return call(() -> target.findUserId(email));
+    }
+
+    @Override
+    public String createUser(String email, String password, String name, String lastName) {
+        return call(() -> target.createUser(email, password, name, lastName));
+    }
+
+    @Override
+    public void assignRole(String userId, String role) {
+        call(() -> {
+            target.assignRole(userId, role);
+            return null;
+        });
+    }
+
+    @Override
+    public void editUser(String userId, String name, String lastName) {
+        call(() -> {
+            target.editUser(userId, name, lastName);
+            return null;
+        });
+    }
+
+    @Override
+    public List<IdentityUser> listCustomerUsers(int first, int max) {
+        return call(() -> target.listCustomerUsers(first, max));
+    }
+
+    @Override
+    public void deleteUser(String userId) {
+        call(() -> {
+            target.deleteUser(userId);
+            return null;
+        });
+    }
+
+    private <T> T call(Supplier<T> action) {
+        try {
+            circuitBreaker.acquirePermission();
+        } catch(IdentityProviderUnavailableException e) {
+            circuitRejections.increment();
+            throw e;
+        }
+        try {
+            bulkhead.acquire();
+        } catch(IdentityProviderBusyException e) {
+            circuitBreaker.onIgnored();
+            bulkheadRejections.increment();
+            throw e;
+        }
+        try {
+            T result = action.get();
+            circuitBreaker.onSuccess();
+            return result;
+        } catch(RuntimeException e) {
+            if(isOutage(e)) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onIgnored();
+            }
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private boolean isOutage(Throwable e) {
+        for(Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if(cause instanceof ProcessingException
+                    || cause instanceof IOException
+                    || cause instanceof TimeoutException) {
+                return true;
+            }
+            if(cause instanceof IdentityProviderResponseException response && isOutageStatus(response.getStatus())) {
+                return true;
+            }
+            if(cause instanceof WebApplicationException web && web.getResponse() != null && isOutageStatus(web.getResponse().getStatus())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isOutageStatus(int status) {
+        return status >= 500 || status == 429;
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.security.config;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@PreAuthorize("hasRole(@environment.getProperty('customer.security.roles.admin'))")
+public @interface AdminOnly {
+}
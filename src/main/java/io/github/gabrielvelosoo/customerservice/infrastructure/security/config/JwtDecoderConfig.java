@@ -0,0 +1,77 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.security.config;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.github.gabrielvelosoo.customerservice.infrastructure.security.jwt.CachingJwtDecoder;
+import io.github.gabrielvelosoo.customerservice.infrastructure.security.jwt.JwkSetCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+@Configuration
+public class JwtDecoderConfig {
+
+    @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}")
+    private String jwkSetUri;
+
+    @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri:}")
+    private String issuer;
+
+    @Value("${customer.security.jwt.jwks-timeout}")
+    private Duration jwksTimeout;
+
+    @Value("${customer.security.jwt.rotation-wait}")
+    private Duration rotationWait;
+
+    @Value("${customer.security.jwt.min-forced-refresh-interval}")
+    private Duration minForcedRefreshInterval;
+
+    @Value("${customer.security.jwt.cache-maximum-size}")
+    private long cacheMaximumSize;
+
+    @Value("${customer.security.jwt.cache-maximum-time-to-live}")
+    private Duration cacheMaximumTimeToLive;
+
+    @Bean
+    public JwkSetCache jwkSetCache() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(jwksTimeout);
+        requestFactory.setReadTimeout(jwksTimeout);
+        RestClient restClient = RestClient.builder().requestFactory(requestFactory).build();
+        return new JwkSetCache(
+                () -> JWKSet.parse(restClient.get().uri(jwkSetUri).retrieve().body(String.class)),
+                rotationWait,
+                minForcedRefreshInterval
+        );
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(JwkSetCache jwkSetCache, MeterRegistry meterRegistry) {
+        CachingJwtDecoder jwtDecoder = new CachingJwtDecoder(verifyingDecoder(jwkSetCache, issuer), cacheMaximumSize, cacheMaximumTimeToLive);
+        CaffeineCacheMetrics.monitor(meterRegistry, jwtDecoder.cache(), "verified-jwts");
+        return jwtDecoder;
+    }
+
+    public static NimbusJwtDecoder verifyingDecoder(JWKSource<SecurityContext> jwkSource, String issuer) {
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        NimbusJwtDecoder jwtDecoder = new NimbusJwtDecoder(jwtProcessor);
+        jwtDecoder.setJwtValidator(issuer == null || issuer.isBlank() ? JwtValidators.createDefault() : JwtValidators.createDefaultWithIssuer(issuer));
+        return jwtDecoder;
+    }
+}
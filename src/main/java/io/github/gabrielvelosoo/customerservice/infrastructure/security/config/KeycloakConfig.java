@@ -1,11 +1,19 @@
 package io.github.gabrielvelosoo.customerservice.infrastructure.security.config;
 
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
 import org.keycloak.OAuth2Constants;
+import org.keycloak.admin.client.JacksonProvider;
 import org.keycloak.admin.client.Keycloak;
 import org.keycloak.admin.client.KeycloakBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class KeycloakConfig {
@@ -22,7 +30,20 @@ public class KeycloakConfig {
     @Value("${keycloak.client-secret}")
     private String clientSecret;
 
+    @Value("${keycloak.http.connection-pool-size}")
+    private int connectionPoolSize;
+
+    @Value("${keycloak.http.connection-checkout-timeout}")
+    private Duration connectionCheckoutTimeout;
+
+    @Value("${keycloak.http.connect-timeout}")
+    private Duration connectTimeout;
+
+    @Value("${keycloak.http.read-timeout}")
+    private Duration readTimeout;
+
     @Bean
+    @Lazy
     public Keycloak keycloak() {
         return KeycloakBuilder.builder()
                 .serverUrl(serverUrl)
@@ -30,6 +51,18 @@ public class KeycloakConfig {
                 .clientId(clientId)
                 .clientSecret(clientSecret)
                 .grantType(OAuth2Constants.CLIENT_CREDENTIALS)
+                .resteasyClient(keycloakHttpClient())
                 .build();
     }
+
+    private Client keycloakHttpClient() {
+        ResteasyClientBuilder clientBuilder = (ResteasyClientBuilder) ClientBuilder.newBuilder();
+        clientBuilder.connectionPoolSize(connectionPoolSize);
+        clientBuilder.maxPooledPerRoute(connectionPoolSize);
+        clientBuilder.connectionCheckoutTimeout(connectionCheckoutTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        clientBuilder.connectTimeout(connectTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        clientBuilder.readTimeout(readTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        clientBuilder.register(JacksonProvider.class, 100);
+        return clientBuilder.build();
+    }
 }
@@ -1,12 +1,15 @@
 package io.github.gabrielvelosoo.customerservice.infrastructure.security.config;
 
+import io.github.gabrielvelosoo.customerservice.infrastructure.security.jwt.KeycloakRealmRoleConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.config.Customizer;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 
 @Configuration
@@ -14,17 +17,32 @@ import org.springframework.security.web.SecurityFilterChain;
 @EnableMethodSecurity(securedEnabled = true, jsr250Enabled = true)
 public class KeycloakResourceServerConfig {
 
+    @Value("${customer.security.roles.back-office}")
+    private String backOfficeRole;
+
+    @Value("${customer.security.roles.admin}")
+    private String adminRole;
+
     @Bean
     public SecurityFilterChain resourceServerFilterChain(HttpSecurity http) throws Exception {
         return http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> {
-                    auth.requestMatchers("/api/v1/customers/**").permitAll();
+                    auth.requestMatchers(HttpMethod.POST, "/api/v1/customers").permitAll();
+                    auth.requestMatchers("/api/v1/customers/**").hasAnyRole(backOfficeRole, adminRole);
+                    auth.requestMatchers("/api/v1/admin/**").hasRole(adminRole);
+                    auth.requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll();
                     auth.anyRequest().authenticated();
                 })
                 .oauth2ResourceServer(resourceServer ->
-                        resourceServer.jwt(Customizer.withDefaults())
+                        resourceServer.jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthenticationConverter()))
                 )
                 .build();
     }
+
+    private JwtAuthenticationConverter jwtAuthenticationConverter() {
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(new KeycloakRealmRoleConverter());
+        return converter;
+    }
 }
@@ -0,0 +1,78 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Cache<ByteBuffer, Jwt> verified;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration maximumTimeToLive) {
+        this.delegate = delegate;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilExpiry(maximumTimeToLive))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        ByteBuffer key = hash(token);
+        Jwt jwt = verified.getIfPresent(key);
+        if(jwt != null && jwt.getTokenValue().equals(token)) {
+            return jwt;
+        }
+        jwt = delegate.decode(token);
+        if(jwt.getExpiresAt() != null) {
+            verified.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    public Cache<ByteBuffer, Jwt> cache() {
+        return verified;
+    }
+
+    private static ByteBuffer hash(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch(NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record UntilExpiry(Duration maximumTimeToLive) implements Expiry<ByteBuffer, Jwt> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, Jwt jwt, long currentTime) {
+            Duration remaining = Duration.between(Instant.now(), jwt.getExpiresAt());
+            if(remaining.isNegative()) {
+                return 0;
+            }
+            return Math.min(remaining.toNanos(), maximumTimeToLive.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
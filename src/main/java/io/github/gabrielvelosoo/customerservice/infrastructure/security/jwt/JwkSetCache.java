@@ -0,0 +1,105 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.security.jwt;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+public class JwkSetCache implements JWKSource<SecurityContext> {
+
+    private final Callable<JWKSet> loader;
+    private final Duration rotationWait;
+    private final long minForcedRefreshNanos;
+    private final AtomicReference<CompletableFuture<JWKSet>> inFlight = new AtomicReference<>();
+    private final AtomicLong lastForcedRefresh;
+    private volatile JWKSet jwkSet = new JWKSet();
+    private volatile Instant loadedAt;
+
+    public JwkSetCache(Callable<JWKSet> loader, Duration rotationWait, Duration minForcedRefreshInterval) {
+        this.loader = loader;
+        this.rotationWait = rotationWait;
+        this.minForcedRefreshNanos = minForcedRefreshInterval.toNanos();
+        this.lastForcedRefresh = new AtomicLong(System.nanoTime() - minForcedRefreshNanos);
+    }
+
+    @Scheduled(fixedDelayString = "${customer.security.jwt.jwks-refresh-interval}")
+    public void scheduledRefresh() {
+        try {
+            refresh().join();
+        } catch(RuntimeException e) {
+            log.warn("JWK set refresh failed: {}", e.getMessage());
+        }
+    }
+
+    public CompletableFuture<JWKSet> refresh() {
+        while(true) {
+            CompletableFuture<JWKSet> current = inFlight.get();
+            if(current != null) {
+                return current;
+            }
+            CompletableFuture<JWKSet> next = new CompletableFuture<>();
+            if(inFlight.compareAndSet(null, next)) {
+                Thread.ofVirtual().name("jwks-refresh").start(() -> load(next));
+                return next;
+            }
+        }
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        List<JWK> keys = jwkSelector.select(jwkSet);
+        if(!keys.isEmpty() || !tryForcedRefresh()) {
+            return keys;
+        }
+        try {
+            return jwkSelector.select(refresh().get(rotationWait.toMillis(), TimeUnit.MILLISECONDS));
+        } catch(TimeoutException e) {
+            return keys;
+        } catch(ExecutionException e) {
+            throw new KeySourceException("Unable to refresh JWK set", e.getCause());
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KeySourceException("Interrupted while refreshing JWK set", e);
+        }
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    private boolean tryForcedRefresh() {
+        long last = lastForcedRefresh.get();
+        long now = System.nanoTime();
+        return now - last >= minForcedRefreshNanos && lastForcedRefresh.compareAndSet(last, now);
+    }
+
+    private void load(CompletableFuture<JWKSet> result) {
+        try {
+            JWKSet loaded = loader.call();
+            jwkSet = loaded;
+            loadedAt = Instant.now();
+            log.debug("JWK set refreshed with {} keys", loaded.size());
+            inFlight.set(null);
+            result.complete(loaded);
+        } catch(Exception e) {
+            inFlight.set(null);
+            result.completeExceptionally(e);
+        }
+    }
+}
@@ -1,52 +1,82 @@
 package io.github.gabrielvelosoo.customerservice.infrastructure.security.service;
 
 import io.github.gabrielvelosoo.customerservice.domain.service.auth.IdentityProvider;
+import io.github.gabrielvelosoo.customerservice.domain.service.auth.IdentityUser;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.IdentityProviderResponseException;
+import io.github.gabrielvelosoo.customerservice.infrastructure.metrics.IdentityProviderCall;
+import io.github.gabrielvelosoo.customerservice.infrastructure.metrics.IdentityProviderMetrics;
 import jakarta.ws.rs.core.Response;
 import lombok.RequiredArgsConstructor;
 import org.keycloak.admin.client.CreatedResponseUtil;
 import org.keycloak.admin.client.Keycloak;
-import org.keycloak.admin.client.resource.UserResource;
+import org.keycloak.admin.client.resource.RealmResource;
 import org.keycloak.representations.idm.CredentialRepresentation;
 import org.keycloak.representations.idm.RoleRepresentation;
 import org.keycloak.representations.idm.UserRepresentation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
+@Profile("!stub-idp")
+@Qualifier("targetIdentityProvider")
 @RequiredArgsConstructor
 public class KeycloakUserService implements IdentityProvider {
 
-    private final Keycloak keycloak;
+    private static final String DEFAULT_ROLE = "USER";
+
+    private final ObjectProvider<Keycloak> keycloakProvider;
+    private final IdentityProviderMetrics metrics;
+    private final Map<String, RoleRepresentation> roles = new ConcurrentHashMap<>();
 
     @Value("${keycloak.realm}")
     private String realm;
 
+    @Override
+    public Optional<String> findUserId(String email) {
+        try {
+            return metrics.record(IdentityProviderCall.SEARCH, () -> realmResource().users().search(email, true))
+                    .stream()
+                    .map(UserRepresentation::getId)
+                    .findFirst();
+        } catch(Exception e) {
+            throw new RuntimeException("Failed to search user in Keycloak: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public String createUser(String email, String password, String name, String lastName) {
         try {
-            List<UserRepresentation> existing = keycloak.realm(realm).users().search(email, true);
-            if(!existing.isEmpty()) {
-                throw new RuntimeException("User already exists in Keycloak: " + email);
-            }
             UserRepresentation user = new UserRepresentation();
             user.setUsername(email);
             user.setEmail(email);
             user.setFirstName(name);
             user.setLastName(lastName);
             user.setEnabled(true);
-            Response response = keycloak.realm(realm).users().create(user);
+            if(password != null) {
+                CredentialRepresentation credential = new CredentialRepresentation();
+                credential.setTemporary(false);
+                credential.setType(CredentialRepresentation.PASSWORD);
+                credential.setValue(password);
+                user.setCredentials(List.of(credential));
+            }
+            Response response = metrics.record(IdentityProviderCall.CREATE, () -> realmResource().users().create(user));
+            if(response.getStatus() == 409) {
+                throw new IdentityProviderResponseException("User already exists in Keycloak: " + email, response.getStatus());
+            }
             if(response.getStatus() != 201) {
-                throw new RuntimeException("Error creating user in Keycloak: " + response.getStatus());
+                throw new IdentityProviderResponseException("Error creating user in Keycloak", response.getStatus());
             }
             String userId = CreatedResponseUtil.getCreatedId(response);
-            CredentialRepresentation credential = new CredentialRepresentation();
-            credential.setTemporary(false);
-            credential.setType(CredentialRepresentation.PASSWORD);
-            credential.setValue(password);
-            keycloak.realm(realm).users().get(userId).resetPassword(credential);
-            assignRole(userId, "USER");
+            assignRole(userId, DEFAULT_ROLE);
             return userId;
         } catch(Exception e) {
             throw new RuntimeException("Failed to create user in Keycloak: " + e.getMessage(), e);
@@ -56,8 +86,8 @@ public class KeycloakUserService implements IdentityProvider {
     @Override
     public void assignRole(String userId, String role) {
         try {
-            RoleRepresentation userRole = keycloak.realm(realm).roles().get(role).toRepresentation();
-            keycloak.realm(realm).users().get(userId).roles().realmLevel().add(List.of(userRole));
+            RoleRepresentation userRole = role(role);
+            metrics.recordVoid(IdentityProviderCall.ROLE_ADD, () -> realmResource().users().get(userId).roles().realmLevel().add(List.of(userRole)));
         } catch(Exception e) {
             throw new RuntimeException("Failed to assign role in Keycloak: " + e.getMessage(), e);
         }
@@ -66,15 +96,56 @@ public class KeycloakUserService implements IdentityProvider {
     @Override
     public void editUser(String userId, String name, String lastName) {
         try {
-            UserResource userResource = keycloak.realm(realm)
-                    .users()
-                    .get(userId);
-            UserRepresentation user = userResource.toRepresentation();
+            UserRepresentation user = new UserRepresentation();
             user.setFirstName(name);
             user.setLastName(lastName);
-            userResource.update(user);
+            metrics.recordVoid(IdentityProviderCall.UPDATE, () -> realmResource().users().get(userId).update(user));
         } catch(Exception e) {
             throw new RuntimeException("Failed to update user in Keycloak: " + e.getMessage(), e);
         }
     }
+
+    @Override
+    public List<IdentityUser> listCustomerUsers(int first, int max) {
+        try {
+            return metrics.record(IdentityProviderCall.LIST, () -> realmResource().roles().get(DEFAULT_ROLE).getUserMembers(first, max))
+                    .stream()
+                    .map(user -> new IdentityUser(
+                            user.getId(),
+                            user.getEmail(),
+                            user.getFirstName(),
+                            user.getLastName(),
+                            user.getCreatedTimestamp() != null ? Instant.ofEpochMilli(user.getCreatedTimestamp()) : null
+                    ))
+                    .toList();
+        } catch(Exception e) {
+            throw new RuntimeException("Failed to list users in Keycloak: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void deleteUser(String userId) {
+        try {
+            Response response = metrics.record(IdentityProviderCall.DELETE, () -> realmResource().users().delete(userId));
+            if(response.getStatus() != 204 && response.getStatus() != 404) {
+                throw new IdentityProviderResponseException("Error deleting user in Keycloak", response.getStatus());
+            }
+        } catch(Exception e) {
+            throw new RuntimeException("Failed to delete user in Keycloak: " + e.getMessage(), e);
+        }
+    }
+
+    private RoleRepresentation role(String name) {
+        RoleRepresentation cached = roles.get(name);
+        if(cached != null) {
+            return cached;
+        }
+        RoleRepresentation loaded = metrics.record(IdentityProviderCall.ROLE_LOOKUP, () -> realmResource().roles().get(name).toRepresentation());
+        RoleRepresentation existing = roles.putIfAbsent(name, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private RealmResource realmResource() {
+        return keycloakProvider.getObject().realm(realm);
+    }
 }
@@ -0,0 +1,100 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.security.service;
+
+import io.github.gabrielvelosoo.customerservice.domain.service.auth.IdentityProvider;
+import io.github.gabrielvelosoo.customerservice.domain.service.auth.IdentityUser;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Service
+@Profile("stub-idp")
+@Qualifier("targetIdentityProvider")
+public class StubIdentityProvider implements IdentityProvider {
+
+    private final NavigableMap<String, String> userIdsByEmail = new ConcurrentSkipListMap<>();
+    private final Map<String, IdentityUser> usersById = new ConcurrentHashMap<>();
+
+    @Value("${identity-provider.stub.latency}")
+    private Duration latency;
+
+    @Override
+    public Optional<String> findUserId(String email) {
+        simulateLatency();
+        return Optional.ofNullable(userIdsByEmail.get(email));
+    }
+
+    @Override
+    public String createUser(String email, String password, String name, String lastName) {
+        simulateLatency();
+        String userId = register(email, name, lastName);
+        if(userId == null) {
+            throw new RuntimeException("User already exists in Keycloak: " + email);
+        }
+        return userId;
+    }
+
+    @Override
+    public void assignRole(String userId, String role) {
+        simulateLatency();
+    }
+
+    @Override
+    public void editUser(String userId, String name, String lastName) {
+        simulateLatency();
+        usersById.computeIfPresent(userId, (id, user) -> new IdentityUser(id, user.email(), name, lastName, user.createdAt()));
+    }
+
+    @Override
+    public List<IdentityUser> listCustomerUsers(int first, int max) {
+        simulateLatency();
+        return userIdsByEmail.values()
+                .stream()
+                .skip(first)
+                .limit(max)
+                .map(usersById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public void deleteUser(String userId) {
+        simulateLatency();
+        IdentityUser user = usersById.remove(userId);
+        if(user != null) {
+            userIdsByEmail.remove(user.email(), userId);
+        }
+    }
+
+    private String register(String email, String name, String lastName) {
+        String userId = UUID.randomUUID().toString();
+        if(userIdsByEmail.putIfAbsent(email, userId) != null) {
+            return null;
+        }
+        usersById.put(userId, new IdentityUser(userId, email, name, lastName, Instant.now()));
+        return userId;
+    }
+
+    private void simulateLatency() {
+        if(latency.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency);
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while calling stub identity provider", e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.startup;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupReport {
+
+    private final ObjectProvider<BufferingApplicationStartup> applicationStartup;
+
+    @Value("${startup.report.top-steps}")
+    private int topSteps;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report(ApplicationReadyEvent event) {
+        log.info("Application ready in {} ms", event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : -1);
+        BufferingApplicationStartup startup = applicationStartup.getIfAvailable();
+        if(startup == null || topSteps <= 0) {
+            return;
+        }
+        List<StartupTimeline.TimelineEvent> slowest = startup.getBufferedTimeline()
+                .getEvents()
+                .stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(topSteps)
+                .toList();
+        StringBuilder report = new StringBuilder("Slowest startup steps:");
+        for(StartupTimeline.TimelineEvent step : slowest) {
+            report.append(System.lineSeparator())
+                    .append(String.format("%8d ms  %s", step.getDuration().toMillis(), describe(step)));
+        }
+        log.info(report.toString());
+    }
+
+    private String describe(StartupTimeline.TimelineEvent step) {
+        StringBuilder description = new StringBuilder(step.getStartupStep().getName());
+        step.getStartupStep().getTags().forEach(tag -> {
+            if(tag.getKey().equals("beanName") || tag.getKey().equals("postProcessor")) {
+                description.append(' ').append(tag.getKey()).append('=').append(tag.getValue());
+            }
+        });
+        return description.toString();
+    }
+}
@@ -0,0 +1,16 @@
+create sequence if not exists tb_customer_event_seq start with 1 increment by 50;
+
+create table if not exists tb_customer_event (
+    id bigint not null,
+    event_sequence bigint,
+    event_type varchar(30) not null check (event_type in ('CUSTOMER_CREATED', 'CUSTOMER_UPDATED')),
+    customer_id bigint not null,
+    customer_version bigint not null,
+    payload varchar(4000) not null,
+    created_at timestamp(6),
+    published_at timestamp(6),
+    constraint pk_customer_event primary key (id),
+    constraint uk_customer_event_sequence unique (event_sequence)
+);
+
+create index if not exists idx_customer_event_unpublished on tb_customer_event (id) where event_sequence is null;
@@ -0,0 +1 @@
+create index idx_customer_lower_email on tb_customer (lower(email));
@@ -0,0 +1,14 @@
+create table tb_customer (
+    id bigint generated by default as identity,
+    birth_date date not null,
+    cep varchar(8) not null,
+    cpf varchar(11) not null,
+    created_at timestamp(6),
+    email varchar(255) not null,
+    keycloak_user_id varchar(255) not null,
+    last_name varchar(100) not null,
+    name varchar(100) not null,
+    updated_at timestamp(6),
+    primary key (id),
+    constraint uk1r2x5kcodv7u39r4k8jfk78b8 unique (cpf)
+);
@@ -0,0 +1,7 @@
+alter table tb_customer alter column id drop identity if exists;
+
+create sequence if not exists tb_customer_seq start with 1 increment by 50;
+
+alter sequence tb_customer_seq increment by 50;
+
+select setval('tb_customer_seq', (select coalesce(max(id), 0) from tb_customer) + 1);
@@ -0,0 +1,21 @@
+alter table tb_customer alter column keycloak_user_id drop not null;
+
+alter table tb_customer add column if not exists provisioning_status varchar(20) check (provisioning_status in ('PENDING', 'PROVISIONED', 'FAILED'));
+
+create table if not exists tb_provisioning_outbox (
+    id bigint generated by default as identity,
+    customer_id bigint not null,
+    email varchar(255) not null,
+    encrypted_password varchar(512),
+    name varchar(100) not null,
+    last_name varchar(100) not null,
+    attempts integer not null,
+    next_attempt_at timestamp(6) not null,
+    last_error varchar(500),
+    created_at timestamp(6),
+    primary key (id)
+);
+
+alter table tb_provisioning_outbox add column if not exists encrypted_password varchar(512);
+
+alter table tb_provisioning_outbox drop column if exists password;
@@ -0,0 +1,15 @@
+do $$
+begin
+    if not exists (
+        select 1
+        from pg_constraint c
+        join pg_attribute a on a.attrelid = c.conrelid and a.attnum = any (c.conkey)
+        where c.conrelid = 'tb_customer'::regclass
+          and c.contype = 'u'
+          and array_length(c.conkey, 1) = 1
+          and a.attname = 'email'
+    ) then
+        alter table tb_customer add constraint uk_customer_email unique (email);
+    end if;
+end
+$$;
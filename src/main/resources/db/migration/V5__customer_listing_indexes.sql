@@ -0,0 +1,2 @@
+create index if not exists idx_customer_created_at_id on tb_customer (created_at, id);
+create index if not exists idx_customer_cep on tb_customer (cep);
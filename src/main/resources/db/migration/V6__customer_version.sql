@@ -0,0 +1 @@
+alter table tb_customer add column if not exists version bigint default 0 not null;
@@ -0,0 +1,2 @@
+create index idx_customer_lower_name on tb_customer (lower(name) text_pattern_ops);
+create index idx_provisioning_outbox_next_attempt_at on tb_provisioning_outbox (next_attempt_at);
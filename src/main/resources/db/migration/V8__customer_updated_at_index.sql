@@ -0,0 +1 @@
+create index if not exists idx_customer_updated_at on tb_customer (updated_at);
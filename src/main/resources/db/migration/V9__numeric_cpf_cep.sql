@@ -0,0 +1,3 @@
+alter table tb_customer
+    alter column cpf type bigint using regexp_replace(cpf, '[^0-9]', '', 'g')::bigint,
+    alter column cep type integer using regexp_replace(cep, '[^0-9]', '', 'g')::integer;
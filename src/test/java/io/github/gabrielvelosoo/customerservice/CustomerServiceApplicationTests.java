@@ -2,8 +2,10 @@ package io.github.gabrielvelosoo.customerservice;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
 @SpringBootTest
+@ActiveProfiles({ "stub-idp", "test" })
 class CustomerServiceApplicationTests {
 
     @Test
@@ -0,0 +1,50 @@
+package io.github.gabrielvelosoo.customerservice.application.cache;
+
+import io.github.gabrielvelosoo.customerservice.domain.entity.Customer;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CustomerCacheEntryTest {
+
+    @Test
+    void editsWithinTheSameMillisecondGetDistinctETags() {
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 15, 10, 30, 0, 123_000_000);
+
+        String before = CustomerCacheEntry.eTagOf(customer(7L, 3L, updatedAt));
+        String after = CustomerCacheEntry.eTagOf(customer(7L, 4L, updatedAt));
+
+        assertNotEquals(before, after);
+    }
+
+    @Test
+    void eTagIsDerivedFromIdAndVersion() {
+        assertEquals("\"7-3\"", CustomerCacheEntry.eTagOf(customer(7L, 3L, LocalDateTime.now())));
+        assertEquals("\"7-0\"", CustomerCacheEntry.eTagOf(customer(7L, null, null)));
+    }
+
+    @Test
+    void matchesStrongWeakAndWildcardValidators() {
+        CustomerCacheEntry entry = new CustomerCacheEntry(null, "\"7-3\"");
+
+        assertTrue(entry.matches("\"7-3\""));
+        assertTrue(entry.matches("W/\"7-3\""));
+        assertTrue(entry.matches("\"7-2\", \"7-3\""));
+        assertTrue(entry.matches("*"));
+        assertFalse(entry.matches("\"7-2\""));
+        assertFalse(entry.matches(null));
+    }
+
+    private Customer customer(Long id, Long version, LocalDateTime updatedAt) {
+        Customer customer = new Customer();
+        customer.setId(id);
+        customer.setVersion(version);
+        customer.setUpdatedAt(updatedAt);
+        return customer;
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.gabrielvelosoo.customerservice.application.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerRequestDTO;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.IdempotencyKeyReuseException;
+import io.github.gabrielvelosoo.customerservice.infrastructure.exception.IdempotentRequestInProgressException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdempotencyStoreTest {
+
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(new SimpleMeterRegistry(), new ObjectMapper().registerModule(new JavaTimeModule()));
+        ReflectionTestUtils.setField(store, "maximumSize", 100L);
+        ReflectionTestUtils.setField(store, "timeToLive", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(store, "inFlightWait", Duration.ofSeconds(5));
+        store.init();
+    }
+
+    @Test
+    void replaysResponseForSameKeyAndBody() {
+        AtomicInteger executions = new AtomicInteger();
+
+        String first = store.execute("key-1", request("jane@example.com"), () -> "created-" + executions.incrementAndGet());
+        String replay = store.execute("key-1", request("jane@example.com"), () -> "created-" + executions.incrementAndGet());
+
+        assertEquals("created-1", first);
+        assertEquals("created-1", replay);
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void rejectsKeyReusedWithDifferentBody() {
+        store.execute("key-1", request("jane@example.com"), () -> "created");
+
+        assertThrows(IdempotencyKeyReuseException.class,
+                () -> store.execute("key-1", request("john@example.com"), () -> "created"));
+    }
+
+    @Test
+    void concurrentReplayWaitsForOriginalResponse() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        CompletableFuture<String> original = CompletableFuture.supplyAsync(() -> store.execute("key-1", request("jane@example.com"), () -> {
+            started.countDown();
+            await(release);
+            return "created-" + executions.incrementAndGet();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<String> replay = CompletableFuture.supplyAsync(() -> store.execute("key-1", request("jane@example.com"), () -> "created-" + executions.incrementAndGet()));
+        release.countDown();
+
+        assertEquals("created-1", original.get(5, TimeUnit.SECONDS));
+        assertEquals("created-1", replay.get(5, TimeUnit.SECONDS));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void replayGivesUpWhileOriginalIsStillInFlight() throws Exception {
+        ReflectionTestUtils.setField(store, "inFlightWait", Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> original = CompletableFuture.supplyAsync(() -> store.execute("key-1", request("jane@example.com"), () -> {
+            started.countDown();
+            await(release);
+            return "created";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(IdempotentRequestInProgressException.class,
+                () -> store.execute("key-1", request("jane@example.com"), () -> "duplicate"));
+
+        release.countDown();
+        assertEquals("created", original.get(5, TimeUnit.SECONDS));
+    }
+
+    private CustomerRequestDTO request(String email) {
+        return new CustomerRequestDTO("Jane", "Doe", email, "s3cret-passw0rd", "11144477735", "01310100", LocalDate.of(1990, 5, 17));
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.gabrielvelosoo.customerservice.application.usecase;
+
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerRequestDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerResponseDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerSearchResultDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles({ "stub-idp", "test" })
+class CustomerSearchUseCaseTest {
+
+    @Autowired
+    private CustomerUseCase customerUseCase;
+
+    @Autowired
+    private CustomerSearchUseCase customerSearchUseCase;
+
+    @Test
+    void createdCustomerIsSearchableImmediately() {
+        CustomerResponseDTO customer = customerUseCase.create(
+                new CustomerRequestDTO("Quiteria", "Brandao", "quiteria.search@example.com", "s3cret-passw0rd", "27419305897", "01310100", LocalDate.of(1985, 3, 9)),
+                null
+        );
+
+        List<CustomerSearchResultDTO> results = customerSearchUseCase.search("quiteria", 10);
+
+        assertEquals(1, results.size());
+        assertEquals(customer.id(), results.getFirst().id());
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.gabrielvelosoo.customerservice.application.usecase;
+
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerRequestDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerResponseDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerUpdateDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles({ "stub-idp", "test" })
+class CustomerSecondLevelCacheTest {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1990, 5, 17);
+
+    @Autowired
+    private CustomerUseCase customerUseCase;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void repeatedEditIssuesNoSelect() {
+        CustomerResponseDTO customer = customerUseCase.create(
+                new CustomerRequestDTO("Maria", "Silva", "maria.cache@example.com", "s3cret-passw0rd", "52998224725", "01310100", BIRTH_DATE),
+                null
+        );
+        customerUseCase.edit(customer.id(), new CustomerUpdateDTO("Maria", "Souza", "52998224725", BIRTH_DATE));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        customerUseCase.edit(customer.id(), new CustomerUpdateDTO("Maria", "Santos", "52998224725", BIRTH_DATE));
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getQueryExecutionCount());
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.gabrielvelosoo.customerservice.application.usecase;
+
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerRequestDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerResponseDTO;
+import io.github.gabrielvelosoo.customerservice.application.dto.CustomerUpdateDTO;
+import io.github.gabrielvelosoo.customerservice.infrastructure.persistence.SqlProfiler;
+import io.github.gabrielvelosoo.customerservice.infrastructure.persistence.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+@SpringBootTest
+@ActiveProfiles({ "stub-idp", "test" })
+class CustomerStatementCountTest {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1990, 5, 17);
+
+    @Autowired
+    private CustomerUseCase customerUseCase;
+
+    @Autowired
+    private SqlProfiler sqlProfiler;
+
+    @Test
+    void createIssuesOnlyTheCustomerAndEventInserts() {
+        customerUseCase.create(request("joao.warmup@example.com", "11144477735"), null);
+
+        try(SqlStatementCounter counter = SqlStatementCounter.attach(sqlProfiler)) {
+            customerUseCase.create(request("joao.count@example.com", "39053344705"), null);
+
+            counter.assertCounts(0, 2, 0);
+        }
+    }
+
+    @Test
+    void editIssuesOneUpdateAndOneEventInsert() {
+        CustomerResponseDTO customer = customerUseCase.create(request("ana.count@example.com", "86288366757"), null);
+        customerUseCase.edit(customer.id(), new CustomerUpdateDTO("Ana", "Souza", "86288366757", BIRTH_DATE));
+
+        try(SqlStatementCounter counter = SqlStatementCounter.attach(sqlProfiler)) {
+            customerUseCase.edit(customer.id(), new CustomerUpdateDTO("Ana", "Santos", "86288366757", BIRTH_DATE));
+
+            counter.assertCounts(0, 1, 1);
+        }
+    }
+
+    private CustomerRequestDTO request(String email, String cpf) {
+        return new CustomerRequestDTO("Joao", "Silva", email, "s3cret-passw0rd", cpf, "01310100", BIRTH_DATE);
+    }
+}
@@ -0,0 +1,171 @@
+package io.github.gabrielvelosoo.customerservice.application.usecase;
+
+import io.github.gabrielvelosoo.customerservice.application.cache.CustomerReadCache;
+import io.github.gabrielvelosoo.customerservice.application.dto.ReconciliationReportDTO;
+import io.github.gabrielvelosoo.customerservice.domain.entity.Customer;
+import io.github.gabrielvelosoo.customerservice.domain.entity.ProvisioningStatus;
+import io.github.gabrielvelosoo.customerservice.domain.repository.CustomerRepository;
+import io.github.gabrielvelosoo.customerservice.domain.repository.projection.CustomerIdentityRow;
+import io.github.gabrielvelosoo.customerservice.domain.service.auth.IdentityUser;
+import io.github.gabrielvelosoo.customerservice.domain.service.customer.CustomerService;
+import io.github.gabrielvelosoo.customerservice.infrastructure.security.service.StubIdentityProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReconciliationUseCaseImplTest {
+
+    private StubIdentityProvider identityProvider;
+    private CustomerRepository customerRepository;
+    private CustomerService customerService;
+    private ReconciliationUseCaseImpl reconciliation;
+
+    private String matchedUserId;
+    private String driftedUserId;
+    private String orphanUserId;
+    private String unlinkedUserId;
+
+    @BeforeEach
+    void setUp() {
+        identityProvider = new StubIdentityProvider();
+        ReflectionTestUtils.setField(identityProvider, "latency", Duration.ZERO);
+        customerRepository = mock(CustomerRepository.class);
+        customerService = mock(CustomerService.class);
+        reconciliation = new ReconciliationUseCaseImpl(identityProvider, customerRepository, customerService, mock(CustomerReadCache.class));
+        ReflectionTestUtils.setField(reconciliation, "pageSize", 2);
+        ReflectionTestUtils.setField(reconciliation, "parallelism", 2);
+        ReflectionTestUtils.setField(reconciliation, "orphanGracePeriod", Duration.ZERO);
+        ReflectionTestUtils.setField(reconciliation, "maxOrphanDeletes", 100);
+        ReflectionTestUtils.setField(reconciliation, "maxSamples", 100);
+
+        matchedUserId = identityProvider.createUser("ana@example.com", "secret", "Ana", "Lima");
+        driftedUserId = identityProvider.createUser("bruno@example.com", "secret", "Bruno", "Old");
+        orphanUserId = identityProvider.createUser("carla@example.com", "secret", "Carla", "Costa");
+        unlinkedUserId = identityProvider.createUser("diego@example.com", "secret", "Diego", "Dias");
+
+        List<Row> rows = List.of(
+                new Row(1L, matchedUserId, "ana@example.com", "Ana", "Lima", ProvisioningStatus.PROVISIONED),
+                new Row(2L, driftedUserId, "bruno@example.com", "Bruno", "New", ProvisioningStatus.PROVISIONED),
+                new Row(3L, null, "diego@example.com", "Diego", "Dias", ProvisioningStatus.FAILED),
+                new Row(4L, "deleted-user", "eva@example.com", "Eva", "Souza", ProvisioningStatus.PROVISIONED)
+        );
+        Map<String, Row> rowsByEmail = rows.stream().collect(Collectors.toMap(Row::getEmail, Function.identity()));
+        when(customerRepository.findIdentityRows(anyCollection(), anyCollection())).thenAnswer(invocation -> {
+            List<String> emails = List.copyOf(invocation.<Collection<String>>getArgument(1));
+            return emails.stream()
+                    .filter(rowsByEmail::containsKey)
+                    .<CustomerIdentityRow>map(rowsByEmail::get)
+                    .toList();
+        });
+        when(customerRepository.findLinkedIdentityRowsAfter(eq(0L), any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(rows.get(0), rows.get(1)));
+        when(customerRepository.findLinkedIdentityRowsAfter(eq(2L), any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(rows.get(3)));
+        when(customerRepository.findLinkedIdentityRowsAfter(eq(4L), any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of());
+        when(customerService.findById(3L)).thenReturn(new Customer());
+    }
+
+    @Test
+    void reportsMismatchesWithoutRepairing() {
+        ReconciliationReportDTO report = reconciliation.reconcile(false);
+
+        assertEquals(4, report.identityUsersScanned());
+        assertEquals(3, report.linkedCustomersScanned());
+        assertEquals(1, report.orphanedUsers());
+        assertEquals(1, report.nameDrifts());
+        assertEquals(1, report.unlinkedCustomers());
+        assertEquals(0, report.conflictingUsers());
+        assertEquals(1, report.missingUsers());
+        assertEquals(0, report.repaired());
+        assertEquals(4, identityProvider.listCustomerUsers(0, 10).size());
+        verify(customerService, never()).edit(any());
+    }
+
+    @Test
+    void keepsOrphansUnlessDeletesAreEnabled() {
+        ReconciliationReportDTO report = reconciliation.reconcile(true);
+
+        assertEquals(1, report.orphanedUsers());
+        assertEquals(2, report.repaired());
+        assertTrue(identityProvider.listCustomerUsers(0, 10).stream().anyMatch(user -> user.id().equals(orphanUserId)));
+    }
+
+    @Test
+    void repairsDriftOrphansAndUnlinkedCustomers() {
+        ReflectionTestUtils.setField(reconciliation, "deleteOrphans", true);
+
+        ReconciliationReportDTO report = reconciliation.reconcile(true);
+
+        assertEquals(3, report.repaired());
+        assertEquals(0, report.repairFailures());
+        List<IdentityUser> users = identityProvider.listCustomerUsers(0, 10);
+        assertFalse(users.stream().anyMatch(user -> user.id().equals(orphanUserId)));
+        IdentityUser drifted = users.stream()
+                .filter(user -> user.id().equals(driftedUserId))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("New", drifted.lastName());
+        verify(customerService).edit(any(Customer.class));
+    }
+
+    private record Row(
+            Long id,
+            String keycloakUserId,
+            String email,
+            String name,
+            String lastName,
+            ProvisioningStatus provisioningStatus
+        ) implements CustomerIdentityRow {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getKeycloakUserId() {
+            return keycloakUserId;
+        }
+
+        @Override
+        public String getEmail() {
+            return email;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getLastName() {
+            return lastName;
+        }
+
+        @Override
+        public ProvisioningStatus getProvisioningStatus() {
+            return provisioningStatus;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.gabrielvelosoo.customerservice.domain.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TrigramIndexTest {
+
+    @Test
+    void matchesTokenPrefixesIgnoringAccentsAndCase() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1L, SearchText.document("Jo\u00e3o", "Concei\u00e7\u00e3o", "joao.c@example.com"));
+        index.put(2L, SearchText.document("Maria", "Silva", "maria@example.com"));
+
+        assertArrayEquals(new long[]{ 1L }, search(index, "conceicao"));
+        assertArrayEquals(new long[]{ 1L }, search(index, "JO\u00c3O conc"));
+        assertArrayEquals(new long[]{ 2L }, search(index, "maria@example"));
+        assertArrayEquals(new long[0], search(index, "ilva"));
+    }
+
+    @Test
+    void ranksExactTokensAboveNewerPrefixMatches() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1L, SearchText.document("Maria", "Silva", "maria@example.com"));
+        index.put(2L, SearchText.document("Mariana", "Souza", "mariana@example.com"));
+        index.put(3L, SearchText.document("Marina", "Lima", "marina@example.com"));
+
+        assertArrayEquals(new long[]{ 1L, 2L }, search(index, "maria"));
+        assertArrayEquals(new long[]{ 3L, 2L, 1L }, search(index, "mar"));
+    }
+
+    @Test
+    void reindexingReplacesPreviousText() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1L, SearchText.document("Maria", "Silva", "maria@example.com"));
+        index.put(1L, SearchText.document("Maria", "Santos", "maria@example.com"));
+
+        assertArrayEquals(new long[0], search(index, "silva"));
+        assertArrayEquals(new long[]{ 1L }, search(index, "santos"));
+        assertEquals(1, index.size());
+        assertArrayEquals(new long[]{ 1L }, index.compact().search(SearchText.tokens("santos"), 10, 1000));
+    }
+
+    private long[] search(TrigramIndex index, String query) {
+        return index.search(SearchText.tokens(query), 10, 1000);
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.gabrielvelosoo.customerservice.domain.value;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CepTest {
+
+    @Test
+    void acceptsFormattedAndUnformattedValues() {
+        assertTrue(Cep.isValid("01310100"));
+        assertTrue(Cep.isValid("01310-100"));
+        assertTrue(Cep.isValid("20040-020"));
+    }
+
+    @Test
+    void rejectsWrongLengthAndForeignCharacters() {
+        assertFalse(Cep.isValid(null));
+        assertFalse(Cep.isValid(""));
+        assertFalse(Cep.isValid("0131010"));
+        assertFalse(Cep.isValid("013101000"));
+        assertFalse(Cep.isValid("01310-10a"));
+        assertFalse(Cep.isValid("01310 100"));
+        assertFalse(Cep.isValid("00000-000"));
+    }
+
+    @Test
+    void roundTripsThroughIntKeepingLeadingZeros() {
+        assertEquals(1310100, Cep.toInt("01310-100"));
+        assertEquals(1310100, Cep.toInt("01310100"));
+        assertEquals("01310100", Cep.format(Cep.toInt("01310-100")));
+        assertEquals("00001000", Cep.format(1000));
+        assertEquals("01310100", Cep.normalize("01310-100"));
+        assertThrows(IllegalArgumentException.class, () -> Cep.format(-1));
+        assertThrows(IllegalArgumentException.class, () -> Cep.format(Cep.MAX_VALUE + 1));
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.gabrielvelosoo.customerservice.domain.value;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CpfTest {
+
+    @Test
+    void acceptsFormattedAndUnformattedValues() {
+        assertTrue(Cpf.isValid("52998224725"));
+        assertTrue(Cpf.isValid("529.982.247-25"));
+        assertTrue(Cpf.isValid("08301661305"));
+        assertTrue(Cpf.isValid("083.016.613-05"));
+    }
+
+    @Test
+    void rejectsWrongCheckDigits() {
+        assertFalse(Cpf.isValid("52998224724"));
+        assertFalse(Cpf.isValid("52998224715"));
+        assertFalse(Cpf.isValid("529.982.247-52"));
+    }
+
+    @Test
+    void rejectsRepeatedDigits() {
+        for(char digit = '0'; digit <= '9'; digit++) {
+            assertFalse(Cpf.isValid(String.valueOf(digit).repeat(Cpf.LENGTH)));
+        }
+        assertFalse(Cpf.isValid("111.111.111-11"));
+    }
+
+    @Test
+    void rejectsWrongLengthAndForeignCharacters() {
+        assertFalse(Cpf.isValid(null));
+        assertFalse(Cpf.isValid(""));
+        assertFalse(Cpf.isValid("5299822472"));
+        assertFalse(Cpf.isValid("529982247250"));
+        assertFalse(Cpf.isValid("5299822472a"));
+        assertFalse(Cpf.isValid("529 982 247 25"));
+        assertFalse(Cpf.isValid("529/982/247-25"));
+        assertEquals(-1, Cpf.toLong("5299822472"));
+        assertEquals(-1, Cpf.toLong("529982247250"));
+        assertEquals(-1, Cpf.toLong("5299822472a"));
+    }
+
+    @Test
+    void roundTripsThroughLongKeepingLeadingZeros() {
+        assertEquals(52998224725L, Cpf.toLong("529.982.247-25"));
+        assertEquals(8301661305L, Cpf.toLong("083.016.613-05"));
+        assertEquals("08301661305", Cpf.format(Cpf.toLong("08301661305")));
+        assertEquals("08301661305", Cpf.normalize("083.016.613-05"));
+        assertEquals("52998224725", Cpf.normalize("52998224725"));
+        assertThrows(IllegalArgumentException.class, () -> Cpf.format(-1));
+        assertThrows(IllegalArgumentException.class, () -> Cpf.format(100_000_000_000L));
+    }
+}
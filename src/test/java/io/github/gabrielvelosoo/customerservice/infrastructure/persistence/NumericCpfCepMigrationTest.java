@@ -0,0 +1,73 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.persistence;
+
+import io.github.gabrielvelosoo.customerservice.domain.value.Cep;
+import io.github.gabrielvelosoo.customerservice.domain.value.Cpf;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnabledIfSystemProperty(named = "migration.jdbc-url", matches = ".+")
+class NumericCpfCepMigrationTest {
+
+    private final String url = System.getProperty("migration.jdbc-url");
+    private final String username = System.getProperty("migration.username", "postgres");
+    private final String password = System.getProperty("migration.password", "");
+    private final String schema = "numeric_cpf_cep_" + System.currentTimeMillis();
+
+    @AfterEach
+    void dropSchema() throws SQLException {
+        try(Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("drop schema if exists " + schema + " cascade");
+        }
+    }
+
+    @Test
+    void convertsFormattedLegacyRowsToNumbers() throws SQLException {
+        flyway("8").migrate();
+        try(Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("set search_path to " + schema);
+            statement.execute("alter table tb_customer alter column cpf type varchar(14), alter column cep type varchar(9)");
+            statement.execute("""
+                    insert into tb_customer (id, name, last_name, keycloak_user_id, email, cpf, cep, birth_date)
+                    values (1, 'Legacy', 'Formatted', 'kc-1', 'formatted@example.com', '083.016.613-05', '01310-100', date '1990-05-17'),
+                           (2, 'Legacy', 'Plain', 'kc-2', 'plain@example.com', '52998224725', '20040020', date '1990-05-17')
+                    """);
+        }
+
+        flyway("9").migrate();
+
+        try(Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("set search_path to " + schema);
+            try(ResultSet rows = statement.executeQuery("select cpf, cep from tb_customer order by id")) {
+                assertTrue(rows.next());
+                assertEquals("08301661305", Cpf.format(rows.getLong("cpf")));
+                assertEquals("01310100", Cep.format(rows.getInt("cep")));
+                assertTrue(rows.next());
+                assertEquals("52998224725", Cpf.format(rows.getLong("cpf")));
+                assertEquals("20040020", Cep.format(rows.getInt("cep")));
+            }
+        }
+    }
+
+    private Flyway flyway(String target) {
+        return Flyway.configure()
+                .dataSource(url, username, password)
+                .schemas(schema)
+                .target(target)
+                .load();
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(url, username, password);
+    }
+}
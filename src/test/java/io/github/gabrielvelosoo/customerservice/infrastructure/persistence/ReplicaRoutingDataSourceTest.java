@@ -0,0 +1,110 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaRoutingDataSource routingDataSource;
+    private SwitchableDataSource replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replica = new SwitchableDataSource(database("replica"));
+        SwitchableDataSource unreachable = new SwitchableDataSource(database("unreachable"));
+        unreachable.down = true;
+        replicas.put("replica-1", replica);
+        replicas.put("replica-2", unreachable);
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, Duration.ofSeconds(1), new SimpleMeterRegistry());
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for(String name : new String[] { "primary", "replica", "unreachable" }) {
+            new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:" + name, "sa", "")).execute("shutdown");
+        }
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToHealthyReplicas() {
+        for(int i = 0; i < 4; i++) {
+            assertEquals("replica", readOnly.execute(status -> role()));
+        }
+        assertEquals("primary", readWrite.execute(status -> role()));
+        assertEquals("primary", role());
+    }
+
+    @Test
+    void readYourWritesScopeForcesPrimary() {
+        assertEquals("primary", PrimaryReadScope.call(() -> readOnly.execute(status -> role())));
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenNoReplicaIsHealthy() {
+        replica.down = true;
+        routingDataSource.checkHealth();
+        assertEquals("primary", readOnly.execute(status -> role()));
+
+        replica.down = false;
+        routingDataSource.checkHealth();
+        assertEquals("replica", readOnly.execute(status -> role()));
+    }
+
+    private String role() {
+        return jdbcTemplate.queryForObject("select role from node", String.class);
+    }
+
+    private static DataSource database(String role) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + role + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table node (role varchar(20))");
+        jdbcTemplate.update("insert into node (role) values (?)", role);
+        return dataSource;
+    }
+
+    private static final class SwitchableDataSource extends DelegatingDataSource {
+
+        private volatile boolean down;
+
+        private SwitchableDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if(down) {
+                throw new SQLTransientConnectionException("Replica is down");
+            }
+            return super.getConnection();
+        }
+    }
+}
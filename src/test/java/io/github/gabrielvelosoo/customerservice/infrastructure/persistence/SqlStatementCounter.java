@@ -0,0 +1,48 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.persistence;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public final class SqlStatementCounter implements SqlStatementListener, AutoCloseable {
+
+    private final Thread thread = Thread.currentThread();
+    private final Map<StatementType, Integer> counts = new EnumMap<>(StatementType.class);
+    private final Runnable detach;
+
+    private SqlStatementCounter(SqlProfiler sqlProfiler) {
+        this.detach = sqlProfiler.addListener(this);
+    }
+
+    public static SqlStatementCounter attach(SqlProfiler sqlProfiler) {
+        return new SqlStatementCounter(sqlProfiler);
+    }
+
+    @Override
+    public void onStatement(StatementType type, String sql, long elapsedNanos) {
+        if(Thread.currentThread() == thread) {
+            counts.merge(type, 1, Integer::sum);
+        }
+    }
+
+    public int count(StatementType type) {
+        return counts.getOrDefault(type, 0);
+    }
+
+    public void reset() {
+        counts.clear();
+    }
+
+    public void assertCounts(int selects, int inserts, int updates) {
+        assertEquals(selects, count(StatementType.SELECT), "SELECT statements");
+        assertEquals(inserts, count(StatementType.INSERT), "INSERT statements");
+        assertEquals(updates, count(StatementType.UPDATE), "UPDATE statements");
+        assertEquals(0, count(StatementType.DELETE), "DELETE statements");
+    }
+
+    @Override
+    public void close() {
+        detach.run();
+    }
+}
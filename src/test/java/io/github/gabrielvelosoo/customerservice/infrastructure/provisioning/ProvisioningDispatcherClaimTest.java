@@ -0,0 +1,98 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.provisioning;
+
+import io.github.gabrielvelosoo.customerservice.application.cache.CustomerReadCache;
+import io.github.gabrielvelosoo.customerservice.domain.entity.Customer;
+import io.github.gabrielvelosoo.customerservice.domain.repository.ProvisioningTaskRepository;
+import io.github.gabrielvelosoo.customerservice.domain.service.provisioning.ProvisioningService;
+import io.github.gabrielvelosoo.customerservice.infrastructure.security.crypto.CredentialCipher;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles({ "stub-idp", "test" })
+class ProvisioningDispatcherClaimTest {
+
+    private static final List<String> CPFS = List.of(
+            "52601815906", "08301661305", "18609139034", "99603082430",
+            "62819482112", "99351819019", "93786579741", "54323194897"
+    );
+
+    @Autowired
+    private ProvisioningService provisioningService;
+
+    @Autowired
+    private ProvisioningTaskRepository provisioningTaskRepository;
+
+    @Autowired
+    private CustomerReadCache customerReadCache;
+
+    @Autowired
+    private CredentialCipher credentialCipher;
+
+    @Test
+    void twoDispatchersProvisionEachTaskOnce() throws InterruptedException {
+        for(int i = 0; i < CPFS.size(); i++) {
+            provisioningService.enqueue(customer(i), "s3cret-passw0rd");
+        }
+        ProvisioningDispatcherTest.FakeIdentityProvider identityProvider = new ProvisioningDispatcherTest.FakeIdentityProvider();
+        ProvisioningDispatcher first = dispatcher(identityProvider);
+        ProvisioningDispatcher second = dispatcher(identityProvider);
+        List<Callable<Void>> polls = List.of(
+                () -> {
+                    first.dispatchPending();
+                    return null;
+                },
+                () -> {
+                    second.dispatchPending();
+                    return null;
+                }
+        );
+        try(ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            executor.invokeAll(polls);
+        } finally {
+            first.stop();
+            second.stop();
+        }
+
+        List<String> createdEmails = identityProvider.createdEmails();
+        assertEquals(CPFS.size(), createdEmails.size());
+        assertEquals(CPFS.size(), new HashSet<>(createdEmails).size());
+        assertEquals(0, provisioningTaskRepository.count());
+    }
+
+    private ProvisioningDispatcher dispatcher(ProvisioningDispatcherTest.FakeIdentityProvider identityProvider) {
+        ProvisioningDispatcher dispatcher = new ProvisioningDispatcher(provisioningService, identityProvider, customerReadCache, credentialCipher);
+        ReflectionTestUtils.setField(dispatcher, "concurrency", 4);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", CPFS.size());
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(dispatcher, "baseBackoff", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(dispatcher, "maxBackoff", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(dispatcher, "claimLease", Duration.ofMinutes(5));
+        dispatcher.start();
+        return dispatcher;
+    }
+
+    private Customer customer(int index) {
+        Customer customer = new Customer();
+        customer.setName("Claim");
+        customer.setLastName("Customer" + index);
+        customer.setEmail("claim" + index + "@example.com");
+        customer.setCpf(CPFS.get(index));
+        customer.setCep("01310100");
+        customer.setBirthDate(LocalDate.of(1990, 1, 1));
+        return customer;
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.provisioning;
+
+import io.github.gabrielvelosoo.customerservice.application.cache.CustomerReadCache;
+import io.github.gabrielvelosoo.customerservice.domain.entity.ProvisioningTask;
+import io.github.gabrielvelosoo.customerservice.domain.service.auth.IdentityProvider;
+import io.github.gabrielvelosoo.customerservice.domain.service.auth.IdentityUser;
+import io.github.gabrielvelosoo.customerservice.domain.service.provisioning.ProvisioningService;
+import io.github.gabrielvelosoo.customerservice.infrastructure.security.crypto.CredentialCipher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProvisioningDispatcherTest {
+
+    private final CredentialCipher credentialCipher = new CredentialCipher(Base64.getEncoder().encodeToString(new byte[32]));
+
+    private FakeIdentityProvider identityProvider;
+    private ProvisioningService provisioningService;
+    private ProvisioningDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        identityProvider = new FakeIdentityProvider();
+        provisioningService = mock(ProvisioningService.class);
+        dispatcher = new ProvisioningDispatcher(provisioningService, identityProvider, mock(CustomerReadCache.class), credentialCipher);
+        ReflectionTestUtils.setField(dispatcher, "concurrency", 2);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 10);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(dispatcher, "baseBackoff", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(dispatcher, "maxBackoff", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(dispatcher, "claimLease", Duration.ofMinutes(5));
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+    }
+
+    @Test
+    void completesTaskWithCreatedUserId() {
+        ProvisioningTask task = task(0);
+        when(provisioningService.claimDue(anyInt(), any(LocalDateTime.class))).thenReturn(List.of(task));
+
+        dispatcher.dispatchPending();
+
+        assertEquals(List.of("jane@example.com"), identityProvider.createdEmails);
+        assertEquals(List.of("secret"), identityProvider.passwords);
+        verify(provisioningService).complete(task, "user-1");
+    }
+
+    @Test
+    void schedulesRetryWhenIdentityProviderFails() {
+        ProvisioningTask task = task(0);
+        identityProvider.failuresLeft = 1;
+        when(provisioningService.claimDue(anyInt(), any(LocalDateTime.class))).thenReturn(List.of(task));
+
+        dispatcher.dispatchPending();
+
+        verify(provisioningService).retry(eq(task), anyString(), any(LocalDateTime.class));
+        verify(provisioningService, never()).complete(any(), anyString());
+    }
+
+    @Test
+    void abandonsTaskAfterMaxAttempts() {
+        ProvisioningTask task = task(2);
+        identityProvider.failuresLeft = 1;
+        when(provisioningService.claimDue(anyInt(), any(LocalDateTime.class))).thenReturn(List.of(task));
+
+        dispatcher.dispatchPending();
+
+        verify(provisioningService).abandon(task);
+    }
+
+    @Test
+    void reusesUserCreatedByPreviousAttempt() {
+        ProvisioningTask task = task(1);
+        identityProvider.users.put("jane@example.com", "existing-user");
+        when(provisioningService.claimDue(anyInt(), any(LocalDateTime.class))).thenReturn(List.of(task));
+
+        dispatcher.dispatchPending();
+
+        assertEquals(List.of(), identityProvider.createdEmails);
+        verify(provisioningService).complete(task, "existing-user");
+    }
+
+    private ProvisioningTask task(int attempts) {
+        ProvisioningTask task = new ProvisioningTask();
+        task.setId(1L);
+        task.setCustomerId(10L);
+        task.setEmail("jane@example.com");
+        task.setEncryptedPassword(credentialCipher.encrypt("secret", "10"));
+        task.setName("Jane");
+        task.setLastName("Doe");
+        task.setAttempts(attempts);
+        task.setNextAttemptAt(LocalDateTime.now());
+        return task;
+    }
+
+    static class FakeIdentityProvider implements IdentityProvider {
+
+        private final Map<String, String> users = new HashMap<>();
+        private final List<String> createdEmails = new ArrayList<>();
+        private final List<String> passwords = new ArrayList<>();
+        private int failuresLeft;
+
+        synchronized List<String> createdEmails() {
+            return List.copyOf(createdEmails);
+        }
+
+        @Override
+        public synchronized Optional<String> findUserId(String email) {
+            return Optional.ofNullable(users.get(email));
+        }
+
+        @Override
+        public synchronized String createUser(String email, String password, String name, String lastName) {
+            if(failuresLeft > 0) {
+                failuresLeft--;
+                throw new RuntimeException("Identity provider unavailable");
+            }
+            String userId = "user-" + (users.size() + 1);
+            users.put(email, userId);
+            createdEmails.add(email);
+            passwords.add(password);
+            return userId;
+        }
+
+        @Override
+        public void assignRole(String userId, String role) {
+        }
+
+        @Override
+        public void editUser(String userId, String name, String lastName) {
+        }
+
+        @Override
+        public List<IdentityUser> listCustomerUsers(int first, int max) {
+            return List.of();
+        }
+
+        @Override
+        public void deleteUser(String userId) {
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.gabrielvelosoo.customerservice.infrastructure.security.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.github.gabrielvelosoo.customerservice.infrastructure.security.config.JwtDecoderConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CachingJwtDecoderTest {
+
+    private static final String ISSUER = "http://localhost/realms/test";
+
+    private RSAKey currentKey;
+    private final AtomicReference<JWKSet> published = new AtomicReference<>();
+    private final AtomicInteger jwksFetches = new AtomicInteger();
+    private final AtomicInteger verifications = new AtomicInteger();
+    private JwkSetCache jwkSetCache;
+    private JwtDecoder jwtDecoder;
+
+    @BeforeEach
+    void setUp() throws JOSEException {
+        currentKey = new RSAKeyGenerator(2048).keyID("key-1").generate();
+        published.set(new JWKSet(currentKey.toPublicJWK()));
+        jwkSetCache = new JwkSetCache(() -> {
+            jwksFetches.incrementAndGet();
+            return published.get();
+        }, Duration.ofSeconds(5), Duration.ZERO);
+        JwtDecoder verifyingDecoder = JwtDecoderConfig.verifyingDecoder(jwkSetCache, ISSUER);
+        jwtDecoder = new CachingJwtDecoder(token -> {
+            verifications.incrementAndGet();
+            return verifyingDecoder.decode(token);
+        }, 1000, Duration.ofMinutes(10));
+        jwkSetCache.refresh().join();
+    }
+
+    @Test
+    void verifiesEachTokenOnce() throws JOSEException {
+        String token = sign(currentKey, Instant.now().plusSeconds(300));
+
+        assertEquals("customer-1", jwtDecoder.decode(token).getSubject());
+        assertEquals("customer-1", jwtDecoder.decode(token).getSubject());
+
+        assertEquals(1, verifications.get());
+        assertEquals(1, jwksFetches.get());
+    }
+
+    @Test
+    void refreshesKeysWhenAnUnknownKeyIdArrives() throws JOSEException {
+        RSAKey rotatedKey = new RSAKeyGenerator(2048).keyID("key-2").generate();
+        published.set(new JWKSet(rotatedKey.toPublicJWK()));
+
+        assertEquals("customer-1", jwtDecoder.decode(sign(rotatedKey, Instant.now().plusSeconds(300))).getSubject());
+        assertEquals(2, jwksFetches.get());
+    }
+
+    @Test
+    void rejectsExpiredAndForgedTokensWithoutCaching() throws JOSEException {
+        String expired = sign(currentKey, Instant.now().minusSeconds(600));
+        String forged = sign(new RSAKeyGenerator(2048).keyID("key-1").generate(), Instant.now().plusSeconds(300));
+
+        assertThrows(JwtValidationException.class, () -> jwtDecoder.decode(expired));
+        assertThrows(JwtValidationException.class, () -> jwtDecoder.decode(expired));
+        assertThrows(JwtException.class, () -> jwtDecoder.decode(forged));
+
+        assertEquals(3, verifications.get());
+    }
+
+    private String sign(RSAKey key, Instant expiresAt) throws JOSEException {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .subject("customer-1")
+                .issueTime(Date.from(expiresAt.minusSeconds(900)))
+                .expirationTime(Date.from(expiresAt))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+}
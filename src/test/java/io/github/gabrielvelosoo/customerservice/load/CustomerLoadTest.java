@@ -0,0 +1,358 @@
+package io.github.gabrielvelosoo.customerservice.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({ "stub-idp", "test" })
+class CustomerLoadTest {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final Path RESULTS_DIR = Path.of("target", "load-test");
+    private static final String BACK_OFFICE_TOKEN = "load-test-back-office";
+
+    private final int rate = Integer.getInteger("load.rate", 200);
+    private final Duration warmup = Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 10));
+    private final Duration duration = Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 30));
+    private final double editRatio = Double.parseDouble(System.getProperty("load.edit-ratio", "0.3"));
+    private final int seedCustomers = Integer.getInteger("load.seed-customers", 500);
+    private final int seedConcurrency = Integer.getInteger("load.seed-concurrency", 50);
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final long runId = System.currentTimeMillis();
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${identity-provider.stub.latency}")
+    private Duration identityProviderLatency;
+
+    @Autowired
+    private Environment environment;
+
+    @Test
+    void createAndEditMixAtFixedArrivalRate() throws Exception {
+        try(ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            SeedCustomer[] customers = seed(client, executor);
+
+            OpenModelRun warmupRun = new OpenModelRun(client, executor, customers);
+            warmupRun.drive(warmup);
+
+            OpenModelRun measuredRun = new OpenModelRun(client, executor, customers);
+            Instant startedAt = Instant.now();
+            long elapsedNanos = measuredRun.drive(duration);
+            report(measuredRun, startedAt, elapsedNanos);
+
+            assertTrue(measuredRun.completed.get() > 0, "No request completed during the measured run");
+        }
+    }
+
+    private SeedCustomer[] seed(HttpClient client, ExecutorService executor) throws InterruptedException, ExecutionException {
+        Semaphore permits = new Semaphore(seedConcurrency);
+        List<Future<SeedCustomer>> seeded = new ArrayList<>(seedCustomers);
+        for(int i = 0; i < seedCustomers; i++) {
+            permits.acquire();
+            String cpf = cpf(runId + sequence.incrementAndGet());
+            seeded.add(executor.submit(() -> {
+                try {
+                    return seedCustomer(client, cpf);
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+        SeedCustomer[] customers = new SeedCustomer[seedCustomers];
+        for(int i = 0; i < seedCustomers; i++) {
+            customers[i] = seeded.get(i).get();
+        }
+        return customers;
+    }
+
+    private SeedCustomer seedCustomer(HttpClient client, String cpf) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(createRequest(cpf), HttpResponse.BodyHandlers.ofString());
+        if(response.statusCode() != 201) {
+            throw new IllegalStateException("Seeding failed with status " + response.statusCode() + ": " + response.body());
+        }
+        Matcher matcher = ID_PATTERN.matcher(response.body());
+        if(!matcher.find()) {
+            throw new IllegalStateException("Seeding response has no id: " + response.body());
+        }
+        return new SeedCustomer(Long.parseLong(matcher.group(1)), cpf);
+    }
+
+    private HttpRequest createRequest(String cpf) {
+        long n = sequence.get();
+        String body = """
+                {"name":"Load","lastName":"Tester %d","email":"load-%d-%s@example.com","password":"s3cret-passw0rd","cpf":"%s","cep":"01310100","birthDate":"1990-05-17"}
+                """.formatted(n, runId, cpf, cpf);
+        return HttpRequest.newBuilder(uri("/api/v1/customers"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest editRequest(SeedCustomer customer) {
+        long n = sequence.incrementAndGet();
+        String body = """
+                {"name":"Load","lastName":"Edited %d","cpf":"%s","birthDate":"1990-05-17"}
+                """.formatted(n, customer.cpf());
+        return HttpRequest.newBuilder(uri("/api/v1/customers/" + customer.id()))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + BACK_OFFICE_TOKEN)
+                .PUT(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private void report(OpenModelRun run, Instant startedAt, long elapsedNanos) throws IOException {
+        Histogram creates = run.createLatency.getIntervalHistogram();
+        Histogram edits = run.editLatency.getIntervalHistogram();
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        String commit = gitCommit();
+        boolean virtualThreads = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+
+        Files.createDirectories(RESULTS_DIR);
+        String prefix = startedAt.toEpochMilli() + "-" + commit;
+        writeDistribution(RESULTS_DIR.resolve(prefix + "-create.hgrm"), creates);
+        writeDistribution(RESULTS_DIR.resolve(prefix + "-edit.hgrm"), edits);
+
+        Path summary = RESULTS_DIR.resolve("summary.csv");
+        if(Files.notExists(summary)) {
+            Files.writeString(summary, "timestamp,commit,virtual_threads,idp_latency_ms,target_rate,edit_ratio,operation,count,errors,error_causes,throughput,p50_ms,p90_ms,p99_ms,p999_ms,max_ms\n");
+        }
+        String common = String.join(",",
+                startedAt.toString(),
+                commit,
+                String.valueOf(virtualThreads),
+                String.valueOf(identityProviderLatency.toMillis()),
+                String.valueOf(rate),
+                String.valueOf(editRatio)
+        );
+        String lines = summaryLine(common, "create", creates, run.createErrors, seconds)
+                + summaryLine(common, "edit", edits, run.editErrors, seconds);
+        Files.writeString(summary, lines, StandardOpenOption.APPEND);
+        System.out.print(lines);
+    }
+
+    private String summaryLine(String common, String operation, Histogram histogram, Map<String, LongAdder> errors, double seconds) {
+        long errorCount = errors.values().stream().mapToLong(LongAdder::sum).sum();
+        String errorCauses = errors.entrySet().stream()
+                .map(error -> error.getKey() + "=" + error.getValue().sum())
+                .sorted()
+                .collect(Collectors.joining(" "));
+        return String.join(",",
+                common,
+                operation,
+                String.valueOf(histogram.getTotalCount()),
+                String.valueOf(errorCount),
+                errorCauses,
+                String.format(Locale.ROOT, "%.1f", histogram.getTotalCount() / seconds),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue())
+        ) + "\n";
+    }
+
+    private String millis(long micros) {
+        return String.format(Locale.ROOT, "%.3f", micros / 1000.0);
+    }
+
+    private void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try(PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private String gitCommit() {
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD")
+                    .redirectErrorStream(true)
+                    .start();
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            return process.waitFor() == 0 ? output : "unknown";
+        } catch(IOException e) {
+            return "unknown";
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+
+    private static String cpf(long seed) {
+        int[] digits = new int[11];
+        long base = 100_000_000L + Math.floorMod(seed, 899_999_999L);
+        for(int i = 8; i >= 0; i--) {
+            digits[i] = (int) (base % 10);
+            base /= 10;
+        }
+        if(digits[0] == digits[1] && digits[1] == digits[2]) {
+            digits[2] = (digits[2] + 1) % 10;
+        }
+        digits[9] = checkDigit(digits, 9);
+        digits[10] = checkDigit(digits, 10);
+        StringBuilder cpf = new StringBuilder(11);
+        for(int digit : digits) {
+            cpf.append(digit);
+        }
+        return cpf.toString();
+    }
+
+    private static int checkDigit(int[] digits, int length) {
+        int sum = 0;
+        for(int i = 0; i < length; i++) {
+            sum += digits[i] * (length + 1 - i);
+        }
+        int remainder = (sum * 10) % 11;
+        return remainder == 10 ? 0 : remainder;
+    }
+
+    private record SeedCustomer(long id, String cpf) {
+    }
+
+    private final class OpenModelRun {
+
+        private final HttpClient client;
+        private final ExecutorService executor;
+        private final SeedCustomer[] customers;
+        private final Recorder createLatency = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        private final Recorder editLatency = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        private final Map<String, LongAdder> createErrors = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> editErrors = new ConcurrentHashMap<>();
+        private final AtomicLong editCursor = new AtomicLong();
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong inFlight = new AtomicLong();
+
+        private OpenModelRun(HttpClient client, ExecutorService executor, SeedCustomer[] customers) {
+            this.client = client;
+            this.executor = executor;
+            this.customers = customers;
+        }
+
+        private long drive(Duration length) {
+            long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+            long start = System.nanoTime();
+            long end = start + length.toNanos();
+            for(long i = 0; ; i++) {
+                long intendedStart = start + i * intervalNanos;
+                if(intendedStart >= end) {
+                    break;
+                }
+                long wait = intendedStart - System.nanoTime();
+                if(wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                boolean edit = ThreadLocalRandom.current().nextDouble() < editRatio;
+                inFlight.incrementAndGet();
+                executor.execute(() -> execute(edit, intendedStart));
+            }
+            while(inFlight.get() > 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+            }
+            return System.nanoTime() - start;
+        }
+
+        private void execute(boolean edit, long intendedStart) {
+            String error;
+            try {
+                if(edit) {
+                    SeedCustomer customer = customers[(int) (editCursor.getAndIncrement() % customers.length)];
+                    int status = client.send(editRequest(customer), HttpResponse.BodyHandlers.discarding()).statusCode();
+                    error = status == 200 ? null : String.valueOf(status);
+                } else {
+                    String cpf = cpf(runId + sequence.incrementAndGet());
+                    int status = client.send(createRequest(cpf), HttpResponse.BodyHandlers.discarding()).statusCode();
+                    error = status == 201 ? null : String.valueOf(status);
+                }
+            } catch(IOException e) {
+                error = e.getClass().getSimpleName();
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                error = "interrupted";
+            }
+            long latencyMicros = Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart), HIGHEST_TRACKABLE_MICROS);
+            if(edit) {
+                editLatency.recordValue(latencyMicros);
+            } else {
+                createLatency.recordValue(latencyMicros);
+            }
+            if(error != null) {
+                (edit ? editErrors : createErrors).computeIfAbsent(error, cause -> new LongAdder()).increment();
+            }
+            completed.incrementAndGet();
+            inFlight.decrementAndGet();
+        }
+    }
+
+    @TestConfiguration
+    static class BackOfficeTokenConfig {
+
+        @Bean
+        @Primary
+        JwtDecoder backOfficeTokenDecoder() {
+            return token -> Jwt.withTokenValue(token)
+                    .header("alg", "none")
+                    .subject("load-test")
+                    .claim("realm_access", Map.of("roles", List.of("BACK_OFFICE")))
+                    .build();
+        }
+    }
+}